@@ -70,6 +70,7 @@ dependencies {
   val nav_version = "2.8.0-beta05"
   val koin_version = "4.0.0"
   val room_version = "2.6.1"
+  val paging_version = "3.3.2"
 
   implementation("androidx.core:core-ktx:1.13.1")
   implementation("androidx.lifecycle:lifecycle-runtime-ktx:2.8.3")
@@ -99,6 +100,10 @@ dependencies {
   implementation("androidx.room:room-runtime:$room_version")
   ksp("androidx.room:room-compiler:$room_version")
   implementation("androidx.room:room-ktx:$room_version")
+  implementation("androidx.room:room-paging:$room_version")
+
+  // Paging
+  implementation("androidx.paging:paging-compose:$paging_version")
 
   testImplementation("junit:junit:4.13.2")
   testImplementation("io.kotest:kotest-runner-junit5:5.9.1")
@@ -106,11 +111,13 @@ dependencies {
   testImplementation("io.kotest:kotest-property:5.9.1")
   androidTestImplementation("androidx.test.ext:junit:1.2.1")
   androidTestImplementation("androidx.test.espresso:espresso-core:3.6.1")
+  androidTestImplementation("androidx.room:room-testing:$room_version")
   androidTestImplementation(platform("androidx.compose:compose-bom:2024.06.00"))
   androidTestImplementation("androidx.compose.ui:ui-test-junit4")
   debugImplementation("androidx.compose.ui:ui-tooling")
   debugImplementation("androidx.compose.ui:ui-test-manifest")
   implementation(kotlin("reflect"))
   implementation("com.michael-bull.kotlin-result:kotlin-result:2.0.0")
+  implementation("com.michael-bull.kotlin-result:kotlin-result-coroutines:2.0.0")
   implementation("org.jetbrains.kotlinx:kotlinx-serialization-json:1.7.3")
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.kronos.skilletapp
+
+import android.database.sqlite.SQLiteDatabase
+import androidx.room.testing.MigrationTestHelper
+import androidx.sqlite.db.SupportSQLiteDatabase
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import com.kronos.skilletapp.database.MIGRATION_1_2
+import com.kronos.skilletapp.database.MIGRATION_2_3
+import com.kronos.skilletapp.database.MIGRATION_3_4
+import com.kronos.skilletapp.database.RecipeDatabase
+import com.kronos.skilletapp.model.Equipment
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.model.Instruction
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import kotlinx.serialization.SerializationException
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.junit.Assert.*
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class RecipeMigrationTest {
+  @get:Rule
+  val helper = MigrationTestHelper(InstrumentationRegistry.getInstrumentation(), RecipeDatabase::class.java)
+
+  private val pasta = Ingredient("Pasta", Measurement(8f, MeasurementUnit.Ounce), "8 oz Pasta", id = "pasta")
+  private val garlic = Ingredient("Garlic", Measurement(2f, MeasurementUnit.Custom("clove")), "2 cloves Garlic", id = "garlic")
+  private val pot = Equipment("Pot", id = "pot")
+  private val boil = Instruction("Boil the pasta", ingredients = listOf(pasta), equipment = listOf(pot), id = "boil")
+  private val toss = Instruction("Toss with the garlic", ingredients = listOf(garlic), id = "toss")
+
+  // A version 1 recipe row, with its ingredients, instructions and equipment as JSON
+  private fun SupportSQLiteDatabase.insertRecipe(
+    id: String,
+    name: String,
+    ingredients: String = "[]",
+    instructions: String = "[]",
+    equipment: String = "[]",
+  ) = execSQL(
+    "INSERT INTO recipe (id, name, description, cover, notes, servings, ingredients, instructions, equipment, prep_time, cook_time, source_name, source_url) VALUES (?, ?, '', NULL, '', 2, ?, ?, ?, 10, 20, '', '')",
+    arrayOf(id, name, ingredients, instructions, equipment)
+  )
+
+  private fun SupportSQLiteDatabase.rows(sql: String): List<List<String?>> = query(sql).use { cursor ->
+    buildList {
+      while (cursor.moveToNext()) add(List(cursor.columnCount) { cursor.getString(it) })
+    }
+  }
+
+  @Test
+  fun migratesVersion1ToLatest() {
+    helper.createDatabase(TEST_DB, 1).apply {
+      insertRecipe(
+        id = "garlic-pasta",
+        name = "Garlic Pasta",
+        ingredients = Json.encodeToString(listOf(pasta, garlic)),
+        instructions = Json.encodeToString(listOf(boil, toss)),
+        equipment = Json.encodeToString(listOf(pot))
+      )
+      insertRecipe(id = "deleted", name = "Deleted")
+      insertRecipe(id = "pancakes", name = "Pancakes")
+      execSQL("DELETE FROM recipe WHERE id = 'deleted'")
+      close()
+    }
+
+    val db = helper.runMigrationsAndValidate(TEST_DB, 4, true, MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4)
+
+    // Rowids survive both table rebuilds, gaps included
+    assertEquals(
+      listOf(listOf("1", "garlic-pasta", "Garlic Pasta", "0"), listOf("3", "pancakes", "Pancakes", "0")),
+      db.rows("SELECT rowid, id, name, rating FROM recipe ORDER BY rowid")
+    )
+    assertEquals(listOf(listOf("0")), db.rows("SELECT count(*) FROM recipe WHERE created_at = 0 OR updated_at = 0"))
+
+    assertEquals(
+      listOf(listOf("pasta", "0", "Pasta", "8.0", null), listOf("garlic", "1", "Garlic", "2.0", "clove")),
+      db.rows("SELECT id, position, name, quantity, custom_unit FROM ingredient WHERE recipe_id = 'garlic-pasta' ORDER BY position")
+    )
+    assertEquals(
+      listOf(listOf("boil", "0", "Boil the pasta"), listOf("toss", "1", "Toss with the garlic")),
+      db.rows("SELECT id, position, text FROM instruction WHERE recipe_id = 'garlic-pasta' ORDER BY position")
+    )
+    assertEquals(listOf(listOf("pot", "Pot")), db.rows("SELECT id, name FROM equipment WHERE recipe_id = 'garlic-pasta'"))
+
+    // Instructions refer to the recipe's own rows rather than holding copies of them
+    assertEquals(
+      listOf(listOf("boil", "pasta"), listOf("toss", "garlic")),
+      db.rows("SELECT instruction_id, ingredient_id FROM instruction_ingredient ORDER BY instruction_id")
+    )
+    assertEquals(listOf(listOf("boil", "pot")), db.rows("SELECT instruction_id, equipment_id FROM instruction_equipment"))
+
+    assertEquals(listOf(listOf("garlic-pasta")), db.rows("SELECT recipe_id FROM recipe_fts WHERE recipe_fts MATCH 'garlic'"))
+    assertEquals(listOf(listOf("garlic-pasta")), db.rows("SELECT recipe_id FROM recipe_fts WHERE recipe_fts MATCH 'boil'"))
+    assertEquals(listOf(listOf("pancakes")), db.rows("SELECT recipe_id FROM recipe_fts WHERE recipe_fts MATCH 'pancakes'"))
+    assertEquals(listOf(listOf("2")), db.rows("SELECT count(*) FROM recipe_fts"))
+
+    // Every search row sits at the docid its recipe's key gives it
+    assertEquals(
+      listOf(listOf("garlic-pasta", "garlic-pasta"), listOf("pancakes", "pancakes")),
+      db.rows("SELECT recipe_fts_key.recipe_id, recipe_fts.recipe_id FROM recipe_fts_key JOIN recipe_fts ON recipe_fts.docid = recipe_fts_key.docid ORDER BY recipe_fts_key.docid")
+    )
+
+    assertEquals(emptyList<List<String?>>(), db.rows("PRAGMA foreign_key_check"))
+  }
+
+  @Test
+  fun keepsVersion1WhenJsonCantBeDecoded() {
+    helper.createDatabase(TEST_DB, 1).apply {
+      insertRecipe(id = "broken", name = "Broken", ingredients = "[{\"name\": ")
+      close()
+    }
+
+    assertThrows(SerializationException::class.java) {
+      helper.runMigrationsAndValidate(TEST_DB, 2, true, MIGRATION_1_2)
+    }
+
+    val path = InstrumentationRegistry.getInstrumentation().targetContext.getDatabasePath(TEST_DB).path
+    SQLiteDatabase.openDatabase(path, null, SQLiteDatabase.OPEN_READONLY).use { db ->
+      assertEquals(1, db.version)
+      db.rawQuery("SELECT ingredients FROM recipe WHERE id = 'broken'", null).use { cursor ->
+        assertTrue(cursor.moveToFirst())
+        assertEquals("[{\"name\": ", cursor.getString(0))
+      }
+    }
+  }
+
+  companion object {
+    private const val TEST_DB = "migration-test"
+  }
+}
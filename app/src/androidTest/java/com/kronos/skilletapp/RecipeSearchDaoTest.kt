@@ -0,0 +1,139 @@
+package com.kronos.skilletapp
+
+import androidx.room.Room
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import com.kronos.skilletapp.database.RecipeDao
+import com.kronos.skilletapp.database.RecipeDatabase
+import com.kronos.skilletapp.database.RecipeSearch
+import com.kronos.skilletapp.model.*
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.runBlocking
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.measureTimedValue
+
+@RunWith(AndroidJUnit4::class)
+class RecipeSearchDaoTest {
+  private lateinit var database: RecipeDatabase
+  private lateinit var dao: RecipeDao
+
+  @Before
+  fun createDatabase() {
+    val context = InstrumentationRegistry.getInstrumentation().targetContext
+    database = Room.inMemoryDatabaseBuilder(context, RecipeDatabase::class.java).build()
+    dao = database.recipeDao()
+  }
+
+  @After
+  fun closeDatabase() {
+    database.close()
+  }
+
+  private suspend fun search(text: String) = RecipeSearch.rank(
+    dao.observeSearch(RecipeSearch.matchQuery(text)!!, RecipeSearch.nameMatchQuery(text)!!, RecipeSearch.RESULT_LIMIT).first()
+  )
+
+  private fun count(table: String) = database.openHelper.readableDatabase.query("SELECT count(*) FROM $table").use {
+    it.moveToFirst()
+    it.getInt(0)
+  }
+
+  private fun recipe(id: String, name: String, ingredients: List<String> = emptyList(), instructions: List<String> = emptyList()) = Recipe(
+    id = id,
+    name = name,
+    description = "",
+    notes = "",
+    servings = 1,
+    time = RecipeTime(),
+    source = RecipeSource(),
+    ingredients = ingredients.map { Ingredient(it, Measurement(1f, MeasurementUnit.Cup), "1 cup $it") },
+    instructions = instructions.map { Instruction(it) },
+    equipment = emptyList()
+  )
+
+  @Test
+  fun ranksNameMatchesFirst() = runBlocking {
+    dao.upsert(recipe("instructions", "Roast Chicken", instructions = listOf("Rub the chicken with garlic")))
+    dao.upsert(recipe("ingredients", "Pasta", ingredients = listOf("garlic")))
+    dao.upsert(recipe("name", "Garlic Bread"))
+    dao.upsert(recipe("none", "Pancakes"))
+
+    assertEquals(listOf("name", "ingredients", "instructions"), search("garl").map { it.id })
+  }
+
+  @Test
+  fun keepsOlderNameMatchesPastTheLimit() = runBlocking {
+    dao.upsert(recipe("bread", "Garlic Bread"))
+    repeat(RecipeSearch.RESULT_LIMIT + 50) {
+      dao.upsert(recipe("stew-$it", "Stew $it", instructions = listOf("Add the garlic")))
+    }
+
+    val results = search("garlic")
+    assertEquals(RecipeSearch.RESULT_LIMIT, results.size)
+    assertEquals("bread", results.first().id)
+  }
+
+  @Test
+  fun followsUpsertsAndDeletes() = runBlocking {
+    val bread = recipe("id", "Garlic Bread")
+    dao.upsert(bread)
+    dao.upsert(bread.copy(name = "Cheese Bread"))
+
+    assertEquals(emptyList<String>(), search("garlic").map { it.id })
+    assertEquals(listOf("id"), search("cheese").map { it.id })
+    assertEquals(1, count("recipe_fts"))
+
+    dao.delete(bread)
+    assertEquals(emptyList<String>(), search("bread").map { it.id })
+    assertEquals(0, count("recipe_fts"))
+    assertEquals(0, count("recipe_fts_key"))
+  }
+
+  @Test
+  fun searchesLargeLibraryWithinBudget() = runBlocking {
+    val words = listOf("garlic", "chicken", "pasta", "butter", "flour", "onion", "tomato", "basil", "lemon", "rice")
+    val random = kotlin.random.Random(42)
+    fun phrase(length: Int) = List(length) { words.random(random) }.joinToString(" ")
+
+    // Written straight to the tables in one transaction, upserting 20k recipes one by one takes minutes on a device
+    database.openHelper.writableDatabase.run {
+      beginTransaction()
+      try {
+        repeat(LIBRARY_SIZE) {
+          val name = phrase(3)
+          execSQL(
+            "INSERT INTO recipe (id, name, description, cover, notes, servings, rating, created_at, updated_at, prep_time, cook_time, source_name, source_url) VALUES (?, ?, '', NULL, '', 1, 0, 0, 0, 0, 0, '', '')",
+            arrayOf("recipe-$it", name)
+          )
+          execSQL("INSERT INTO recipe_fts_key (docid, recipe_id) VALUES (?, ?)", arrayOf(it + 1, "recipe-$it"))
+          execSQL(
+            "INSERT INTO recipe_fts (docid, recipe_id, name, description, notes, ingredients, instructions) VALUES (?, ?, ?, '', '', ?, ?)",
+            arrayOf(it + 1, "recipe-$it", name, phrase(8), phrase(30))
+          )
+        }
+        setTransactionSuccessful()
+      } finally {
+        endTransaction()
+      }
+    }
+
+    // A single letter is the broadest query, neither prefix index covers it
+    search("g")
+    val (results, elapsed) = measureTimedValue { search("g") }
+
+    assertEquals(RecipeSearch.RESULT_LIMIT, results.size)
+    assertTrue("Searching $LIBRARY_SIZE recipes took $elapsed", elapsed < SEARCH_BUDGET)
+  }
+
+  companion object {
+    private const val LIBRARY_SIZE = 20_000
+    private val SEARCH_BUDGET = 100.milliseconds
+  }
+}
@@ -1,16 +1,26 @@
 package com.kronos.skilletapp
 
 import android.app.Application
+import android.util.Log
 import androidx.room.Room
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.data.RecipeRepository
+import com.kronos.skilletapp.database.MIGRATION_1_2
+import com.kronos.skilletapp.database.MIGRATION_2_3
+import com.kronos.skilletapp.database.MIGRATION_3_4
 import com.kronos.skilletapp.database.RecipeDao
 import com.kronos.skilletapp.database.RecipeDatabase
 import com.kronos.skilletapp.parser.IngredientParser
+import com.kronos.skilletapp.parser.ParserWarmup
 import com.kronos.skilletapp.scraping.RecipeScraper
 import com.kronos.skilletapp.ui.viewmodel.RecipeListViewModel
 import com.kronos.skilletapp.ui.viewmodel.RecipeViewModel
 import com.kronos.skilletapp.ui.viewmodel.AddEditRecipeViewModel
 import com.kronos.skilletapp.ui.viewmodel.CookingViewModel
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.launch
 import org.koin.android.ext.koin.androidContext
 import org.koin.android.ext.koin.androidLogger
 import org.koin.core.context.startKoin
@@ -18,6 +28,7 @@ import org.koin.dsl.module
 import org.koin.core.module.dsl.*
 
 class SkilletApp : Application() {
+  private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Default)
 
   override fun onCreate() {
     super.onCreate()
@@ -27,6 +38,12 @@ class SkilletApp : Application() {
       androidContext(this@SkilletApp)
       modules(appModule)
     }
+
+    // Load the grammar and build its DFA before the first paste or import needs them
+    scope.launch {
+      val duration = ParserWarmup.prime()
+      Log.i("Parser", "Warmed up ingredient grammar in $duration")
+    }
   }
 }
 
@@ -38,7 +55,7 @@ val appModule = module {
       context = androidContext(),
       klass = RecipeDatabase::class.java,
       name = "recipes.db"
-    ).build()
+    ).addMigrations(MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4).build()
   }
 
   single<RecipeDao>(createdAtStart = true) { (get<RecipeDatabase>().recipeDao()) }
@@ -48,6 +65,7 @@ val appModule = module {
   }
 
   singleOf(::IngredientParser)
+  singleOf(::AlternativeMeasurements)
   factoryOf(::RecipeScraper)
 
   viewModelOf(::RecipeListViewModel)
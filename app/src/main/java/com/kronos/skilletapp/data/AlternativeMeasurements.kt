@@ -0,0 +1,61 @@
+package com.kronos.skilletapp.data
+
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.model.measurement.ConversionTable
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.model.measurement.convertTo
+import com.kronos.skilletapp.model.measurement.hasSameDimensionAs
+import com.kronos.skilletapp.utils.Rational
+import com.kronos.skilletapp.utils.toRational
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+
+/**
+ * The measurements an ingredient can be shown in when picking a unit, cached by ingredient, measurement and scale.
+ *
+ * Alternatives are computed on [Dispatchers.Default] the first time they're asked for and kept in a bounded LRU, so
+ * changing the scale of a recipe only converts each ingredient once per scale instead of on every recomposition.
+ */
+class AlternativeMeasurements {
+  data class Key(val ingredientId: String, val measurement: Measurement, val scale: Float)
+
+  private val cache = object : LinkedHashMap<Key, List<Measurement>>(MAX_ENTRIES, 0.75f, true) {
+    override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, List<Measurement>>?) = size > MAX_ENTRIES
+  }
+
+  val size: Int
+    get() = synchronized(cache) { cache.size }
+
+  fun cached(ingredient: Ingredient, scale: Float): List<Measurement>? = when {
+    ingredient.measurement.unit !in ConversionTable -> emptyList()
+    else -> synchronized(cache) { cache[keyOf(ingredient, scale)] }
+  }
+
+  suspend fun of(ingredient: Ingredient, scale: Float): List<Measurement> =
+    cached(ingredient, scale) ?: withContext(Dispatchers.Default) { get(ingredient, scale) }
+
+  // Computes on the calling thread, for callers that are already off the main thread
+  fun get(ingredient: Ingredient, scale: Float): List<Measurement> {
+    cached(ingredient, scale)?.let { return it }
+
+    val alternatives = compute(ingredient.measurement, scale)
+    synchronized(cache) { cache[keyOf(ingredient, scale)] = alternatives }
+    return alternatives
+  }
+
+  fun clear() = synchronized(cache) { cache.clear() }
+
+  private fun keyOf(ingredient: Ingredient, scale: Float) = Key(ingredient.id, ingredient.measurement, scale)
+
+  companion object {
+    const val MAX_ENTRIES = 256
+
+    private val minimum = Rational.of(1, 8)
+
+    fun compute(measurement: Measurement, scale: Float): List<Measurement> = MeasurementUnit.values
+      .filter { it hasSameDimensionAs measurement.unit }
+      .map { measurement.convertTo(it).scale(scale) }
+      .filter { it.quantity.toRational().roundToNearestFraction() > minimum }
+  }
+}
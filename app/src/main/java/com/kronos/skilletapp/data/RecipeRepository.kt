@@ -1,9 +1,19 @@
 package com.kronos.skilletapp.data
 
+import androidx.paging.Pager
+import androidx.paging.PagingConfig
+import androidx.paging.PagingData
 import com.kronos.skilletapp.database.RecipeDao
+import com.kronos.skilletapp.database.RecipeSearch
 import com.kronos.skilletapp.model.*
 import com.kronos.skilletapp.model.measurement.Measurement
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.ui.screen.recipelist.RecipesSortType
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.flow.map
 import kotlin.uuid.ExperimentalUuidApi
 import kotlin.uuid.Uuid
 
@@ -16,6 +26,22 @@ class RecipeRepository(private val database: RecipeDao) {
 
   fun observeRecipes() = database.observeAll()
 
+  suspend fun fetchRecipeSummaries() = database.getAllSummaries()
+
+  fun pageRecipeSummaries(sortType: RecipesSortType): Flow<PagingData<RecipeSummary>> = Pager(
+    config = summaryPagingConfig,
+    pagingSourceFactory = { database.pagingSource(sortType) }
+  ).flow
+
+  // Best match first, empty when there's nothing to search for
+  fun searchRecipes(text: String): Flow<List<RecipeSummary>> {
+    val query = RecipeSearch.matchQuery(text) ?: return flowOf(emptyList())
+    val nameQuery = RecipeSearch.nameMatchQuery(text) ?: return flowOf(emptyList())
+    return database.observeSearch(query, nameQuery, RecipeSearch.RESULT_LIMIT)
+      .map { RecipeSearch.rank(it) }
+      .flowOn(Dispatchers.Default)
+  }
+
   suspend fun upsert(recipe: Recipe) = database.upsert(recipe)
 
   @OptIn(ExperimentalUuidApi::class)
@@ -32,6 +58,7 @@ class RecipeRepository(private val database: RecipeDao) {
     instructions: List<Instruction>,
     equipment: List<Equipment>,
   ): String {
+    val now = System.currentTimeMillis()
     val recipe = Recipe(
       id = Uuid.random().toString(),
       name = name,
@@ -42,7 +69,9 @@ class RecipeRepository(private val database: RecipeDao) {
       source = RecipeSource(sourceName, source),
       ingredients = ingredients,
       instructions = instructions,
-      equipment = equipment
+      equipment = equipment,
+      createdAt = now,
+      updatedAt = now
     )
 
     upsert(recipe)
@@ -73,7 +102,8 @@ class RecipeRepository(private val database: RecipeDao) {
       source = RecipeSource(sourceName, source),
       ingredients = ingredients,
       instructions = instructions,
-      equipment = equipment
+      equipment = equipment,
+      updatedAt = System.currentTimeMillis()
     )
 
     upsert(recipe)
@@ -135,4 +165,16 @@ class RecipeRepository(private val database: RecipeDao) {
       upsert(recipe.copy(id = "recipe-$it", name = "Recipe $it"))
     }
   }
-}
\ No newline at end of file
+
+  companion object {
+    // Sized for the two column grid, where a screen shows three or four rows of cards. Placeholders keep the grid's
+    // item count exact while pages load, and dropping pages past maxSize keeps memory flat however far it's scrolled.
+    private val summaryPagingConfig = PagingConfig(
+      pageSize = 30,
+      prefetchDistance = 12,
+      enablePlaceholders = true,
+      initialLoadSize = 60,
+      maxSize = 180
+    )
+  }
+}
@@ -0,0 +1,174 @@
+package com.kronos.skilletapp.database
+
+import android.database.Cursor
+import androidx.room.migration.Migration
+import androidx.sqlite.db.SupportSQLiteDatabase
+import androidx.sqlite.db.SupportSQLiteStatement
+import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.RecipeSource
+import com.kronos.skilletapp.model.RecipeTime
+import kotlinx.serialization.json.Json
+
+/**
+ * Moves the ingredients, instructions and equipment out of the JSON columns of the recipe table into tables of their
+ * own.
+ *
+ * Recipes are read a batch at a time, so only one batch of decoded JSON is ever in memory however large the library is.
+ * The old table is dropped at the end, so JSON that can't be decoded fails the migration rather than being lost. Recipes
+ * keep their rowid, which orders them by when they were added.
+ */
+val MIGRATION_1_2 = object : Migration(1, 2) {
+  private val batchSize = 100
+  private val json = Json { ignoreUnknownKeys = true }
+
+  override fun migrate(db: SupportSQLiteDatabase) {
+    db.execSQL("CREATE TABLE IF NOT EXISTS `_new_recipe` (`id` TEXT NOT NULL, `name` TEXT NOT NULL, `description` TEXT NOT NULL, `cover` TEXT, `notes` TEXT NOT NULL, `servings` INTEGER NOT NULL, `prep_time` INTEGER NOT NULL, `cook_time` INTEGER NOT NULL, `source_name` TEXT NOT NULL, `source_url` TEXT NOT NULL, PRIMARY KEY(`id`))")
+    db.execSQL("CREATE TABLE IF NOT EXISTS `ingredient` (`recipe_id` TEXT NOT NULL, `id` TEXT NOT NULL, `position` INTEGER NOT NULL, `name` TEXT NOT NULL, `raw` TEXT NOT NULL, `comment` TEXT, `quantity` REAL NOT NULL, `unit_id` INTEGER NOT NULL, `custom_unit` TEXT, PRIMARY KEY(`recipe_id`, `id`), FOREIGN KEY(`recipe_id`) REFERENCES `recipe`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE TABLE IF NOT EXISTS `instruction` (`recipe_id` TEXT NOT NULL, `id` TEXT NOT NULL, `position` INTEGER NOT NULL, `text` TEXT NOT NULL, `image` TEXT, PRIMARY KEY(`recipe_id`, `id`), FOREIGN KEY(`recipe_id`) REFERENCES `recipe`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE TABLE IF NOT EXISTS `equipment` (`recipe_id` TEXT NOT NULL, `id` TEXT NOT NULL, `position` INTEGER NOT NULL, `name` TEXT NOT NULL, PRIMARY KEY(`recipe_id`, `id`), FOREIGN KEY(`recipe_id`) REFERENCES `recipe`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE TABLE IF NOT EXISTS `instruction_ingredient` (`recipe_id` TEXT NOT NULL, `instruction_id` TEXT NOT NULL, `ingredient_id` TEXT NOT NULL, `position` INTEGER NOT NULL, PRIMARY KEY(`recipe_id`, `instruction_id`, `ingredient_id`), FOREIGN KEY(`recipe_id`, `instruction_id`) REFERENCES `instruction`(`recipe_id`, `id`) ON UPDATE NO ACTION ON DELETE CASCADE , FOREIGN KEY(`recipe_id`, `ingredient_id`) REFERENCES `ingredient`(`recipe_id`, `id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE INDEX IF NOT EXISTS `index_instruction_ingredient_recipe_id_ingredient_id` ON `instruction_ingredient` (`recipe_id`, `ingredient_id`)")
+    db.execSQL("CREATE TABLE IF NOT EXISTS `instruction_equipment` (`recipe_id` TEXT NOT NULL, `instruction_id` TEXT NOT NULL, `equipment_id` TEXT NOT NULL, `position` INTEGER NOT NULL, PRIMARY KEY(`recipe_id`, `instruction_id`, `equipment_id`), FOREIGN KEY(`recipe_id`, `instruction_id`) REFERENCES `instruction`(`recipe_id`, `id`) ON UPDATE NO ACTION ON DELETE CASCADE , FOREIGN KEY(`recipe_id`, `equipment_id`) REFERENCES `equipment`(`recipe_id`, `id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE INDEX IF NOT EXISTS `index_instruction_equipment_recipe_id_equipment_id` ON `instruction_equipment` (`recipe_id`, `equipment_id`)")
+
+    val writer = RowWriter(db)
+
+    var lastRowId = 0L
+    while (true) {
+      // Read the whole batch before writing, so the cursor is never open over tables being written to
+      val batch = db.query(
+        "SELECT rowid, * FROM recipe WHERE rowid > ? ORDER BY rowid LIMIT $batchSize",
+        arrayOf(lastRowId)
+      ).use { cursor ->
+        buildList {
+          while (cursor.moveToNext()) {
+            lastRowId = cursor.getLong(0)
+            add(lastRowId to cursor.toRecipe())
+          }
+        }
+      }
+
+      if (batch.isEmpty()) break
+      batch.forEach { (rowId, recipe) -> writer.write(rowId, RecipeRows(recipe)) }
+    }
+
+    db.execSQL("DROP TABLE `recipe`")
+    db.execSQL("ALTER TABLE `_new_recipe` RENAME TO `recipe`")
+  }
+
+  private fun Cursor.toRecipe() = Recipe(
+    id = getString(getColumnIndexOrThrow("id")),
+    name = getString(getColumnIndexOrThrow("name")),
+    description = getString(getColumnIndexOrThrow("description")),
+    cover = getColumnIndexOrThrow("cover").let { if (isNull(it)) null else getString(it) },
+    notes = getString(getColumnIndexOrThrow("notes")),
+    servings = getInt(getColumnIndexOrThrow("servings")),
+    time = RecipeTime(
+      preparation = getInt(getColumnIndexOrThrow("prep_time")),
+      cooking = getInt(getColumnIndexOrThrow("cook_time"))
+    ),
+    source = RecipeSource(
+      name = getString(getColumnIndexOrThrow("source_name")),
+      source = getString(getColumnIndexOrThrow("source_url"))
+    ),
+    ingredients = json.decodeFromString(getString(getColumnIndexOrThrow("ingredients"))),
+    instructions = json.decodeFromString(getString(getColumnIndexOrThrow("instructions"))),
+    equipment = json.decodeFromString(getString(getColumnIndexOrThrow("equipment")))
+  )
+}
+
+// Compiled once for the whole migration rather than once per row
+private class RowWriter(db: SupportSQLiteDatabase) {
+  private val recipe = db.compileStatement("INSERT OR IGNORE INTO `_new_recipe` (`rowid`,`id`,`name`,`description`,`cover`,`notes`,`servings`,`prep_time`,`cook_time`,`source_name`,`source_url`) VALUES (?,?,?,?,?,?,?,?,?,?,?)")
+  private val ingredient = db.compileStatement("INSERT OR IGNORE INTO `ingredient` (`recipe_id`,`id`,`position`,`name`,`raw`,`comment`,`quantity`,`unit_id`,`custom_unit`) VALUES (?,?,?,?,?,?,?,?,?)")
+  private val instruction = db.compileStatement("INSERT OR IGNORE INTO `instruction` (`recipe_id`,`id`,`position`,`text`,`image`) VALUES (?,?,?,?,?)")
+  private val equipment = db.compileStatement("INSERT OR IGNORE INTO `equipment` (`recipe_id`,`id`,`position`,`name`) VALUES (?,?,?,?)")
+  private val instructionIngredient = db.compileStatement("INSERT OR IGNORE INTO `instruction_ingredient` (`recipe_id`,`instruction_id`,`ingredient_id`,`position`) VALUES (?,?,?,?)")
+  private val instructionEquipment = db.compileStatement("INSERT OR IGNORE INTO `instruction_equipment` (`recipe_id`,`instruction_id`,`equipment_id`,`position`) VALUES (?,?,?,?)")
+
+  fun write(rowId: Long, rows: RecipeRows) {
+    rows.recipe.let {
+      recipe.insert(rowId, it.id, it.name, it.description, it.cover, it.notes, it.servings, it.time.preparation, it.time.cooking, it.source.name, it.source.source)
+    }
+    rows.ingredients.forEach {
+      ingredient.insert(it.recipeId, it.id, it.position, it.name, it.raw, it.comment, it.quantity, it.unitId, it.customUnit)
+    }
+    rows.instructions.forEach {
+      instruction.insert(it.recipeId, it.id, it.position, it.text, it.image)
+    }
+    rows.equipment.forEach {
+      equipment.insert(it.recipeId, it.id, it.position, it.name)
+    }
+    rows.instructionIngredients.forEach {
+      instructionIngredient.insert(it.recipeId, it.instructionId, it.ingredientId, it.position)
+    }
+    rows.instructionEquipment.forEach {
+      instructionEquipment.insert(it.recipeId, it.instructionId, it.equipmentId, it.position)
+    }
+  }
+
+  private fun SupportSQLiteStatement.insert(vararg values: Any?) {
+    clearBindings()
+    values.forEachIndexed { i, value ->
+      when (value) {
+        null -> bindNull(i + 1)
+        is String -> bindString(i + 1, value)
+        is Int -> bindLong(i + 1, value.toLong())
+        is Long -> bindLong(i + 1, value)
+        is Float -> bindDouble(i + 1, value.toDouble())
+        else -> error("Can't bind ${value::class.simpleName}")
+      }
+    }
+    executeInsert()
+  }
+}
+
+/**
+ * Adds the full-text search index and fills it from every recipe, each recipe's row taking the docid given to it in
+ * recipe_fts_key.
+ */
+val MIGRATION_2_3 = object : Migration(2, 3) {
+  override fun migrate(db: SupportSQLiteDatabase) {
+    db.execSQL("CREATE TABLE IF NOT EXISTS `recipe_fts_key` (`docid` INTEGER NOT NULL, `recipe_id` TEXT NOT NULL, PRIMARY KEY(`docid`), FOREIGN KEY(`recipe_id`) REFERENCES `recipe`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )")
+    db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_recipe_fts_key_recipe_id` ON `recipe_fts_key` (`recipe_id`)")
+    db.execSQL("INSERT INTO recipe_fts_key (recipe_id) SELECT id FROM recipe ORDER BY rowid")
+
+    db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `recipe_fts` USING FTS4(`recipe_id` TEXT NOT NULL, `name` TEXT NOT NULL, `description` TEXT NOT NULL, `notes` TEXT NOT NULL, `ingredients` TEXT NOT NULL, `instructions` TEXT NOT NULL, tokenize=unicode61, notindexed=`recipe_id`, prefix=`2,3`)")
+    db.execSQL(
+      """
+      INSERT INTO recipe_fts (docid, recipe_id, name, description, notes, ingredients, instructions)
+      SELECT recipe_fts_key.docid, recipe.id, recipe.name, recipe.description, recipe.notes,
+        (SELECT ifnull(group_concat(name, ' '), '') FROM ingredient WHERE recipe_id = recipe.id),
+        (SELECT ifnull(group_concat(text, ' '), '') FROM instruction WHERE recipe_id = recipe.id)
+      FROM recipe JOIN recipe_fts_key ON recipe_fts_key.recipe_id = recipe.id
+      """
+    )
+  }
+}
+
+/**
+ * Adds the rating and timestamp columns and the indexes behind every sort order.
+ *
+ * The name column becomes case-insensitive, which SQLite can only do by rebuilding the table. Existing recipes all get
+ * the migration time, so rows keep their rowid, which keeps them in the order they were added.
+ */
+val MIGRATION_3_4 = object : Migration(3, 4) {
+  override fun migrate(db: SupportSQLiteDatabase) {
+    val now = System.currentTimeMillis()
+
+    db.execSQL("CREATE TABLE IF NOT EXISTS `_new_recipe` (`id` TEXT NOT NULL, `name` TEXT NOT NULL COLLATE NOCASE, `description` TEXT NOT NULL, `cover` TEXT, `notes` TEXT NOT NULL, `servings` INTEGER NOT NULL, `rating` INTEGER NOT NULL, `created_at` INTEGER NOT NULL, `updated_at` INTEGER NOT NULL, `prep_time` INTEGER NOT NULL, `cook_time` INTEGER NOT NULL, `source_name` TEXT NOT NULL, `source_url` TEXT NOT NULL, PRIMARY KEY(`id`))")
+    db.execSQL(
+      """
+      INSERT INTO `_new_recipe` (rowid, id, name, description, cover, notes, servings, rating, created_at, updated_at, prep_time, cook_time, source_name, source_url)
+      SELECT rowid, id, name, description, cover, notes, servings, 0, ?, ?, prep_time, cook_time, source_name, source_url FROM `recipe`
+      """,
+      arrayOf(now, now)
+    )
+    db.execSQL("DROP TABLE `recipe`")
+    db.execSQL("ALTER TABLE `_new_recipe` RENAME TO `recipe`")
+
+    db.execSQL("CREATE INDEX IF NOT EXISTS `index_recipe_name` ON `recipe` (`name`)")
+    db.execSQL("CREATE INDEX IF NOT EXISTS `index_recipe_created_at` ON `recipe` (`created_at`)")
+    db.execSQL("CREATE INDEX IF NOT EXISTS `index_recipe_rating_name` ON `recipe` (`rating` DESC, `name` ASC)")
+  }
+}
@@ -1,40 +1,180 @@
 package com.kronos.skilletapp.database
 
+import androidx.paging.PagingSource
 import androidx.room.Dao
 import androidx.room.Database
-import androidx.room.Delete
+import androidx.room.Insert
+import androidx.room.OnConflictStrategy
 import androidx.room.Query
 import androidx.room.RoomDatabase
+import androidx.room.Transaction
 import androidx.room.Upsert
 import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.RecipeSummary
+import com.kronos.skilletapp.ui.screen.recipelist.RecipesSortType
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.map
 
-@Database(entities = [Recipe::class], version = 1)
+@Database(
+  entities = [
+    RecipeEntity::class,
+    IngredientEntity::class,
+    InstructionEntity::class,
+    EquipmentEntity::class,
+    InstructionIngredientRef::class,
+    InstructionEquipmentRef::class,
+    RecipeFts::class,
+    RecipeFtsKey::class,
+  ],
+  version = 4
+)
 abstract class RecipeDatabase : RoomDatabase() {
   abstract fun recipeDao(): RecipeDao
 }
 
 @Dao
-interface RecipeDao {
+abstract class RecipeDao {
 
+  suspend fun getAll(): List<Recipe> = loadAll().map { it.toRecipe() }
+
+  fun observeAll(): Flow<List<Recipe>> = observeAllDetails().map { recipes -> recipes.map { it.toRecipe() } }
+
+  @Query("SELECT id, name, cover, servings, prep_time, cook_time FROM recipe")
+  abstract suspend fun getAllSummaries(): List<RecipeSummary>
+
+  // One query per sort type, since ORDER BY can't be bound and a CASE expression would keep SQLite off the indexes
+  fun pagingSource(sortType: RecipesSortType): PagingSource<Int, RecipeSummary> = when (sortType) {
+    RecipesSortType.NAME -> pagingSourceByName()
+    RecipesSortType.DATE -> pagingSourceByDate()
+    RecipesSortType.RATING -> pagingSourceByRating()
+  }
+
+  // Candidate matches with their matchinfo, rank them with RecipeSearch. The candidates are the latest name matches and
+  // the latest matches in any column, FTS4 walks docids backwards without sorting so each LIMIT stops the scan early.
+  // The outer MATCH only steps over the doclist, matchinfo is only computed for the candidates.
+  @Query(
+    """
+    SELECT recipe.id, recipe.name, recipe.cover, recipe.servings, recipe.prep_time, recipe.cook_time,
+      matchinfo(recipe_fts, 'pcx') AS match_info
+    FROM recipe_fts JOIN recipe ON recipe.id = recipe_fts.recipe_id
+    WHERE recipe_fts MATCH :query AND recipe_fts.docid IN (
+      SELECT docid FROM (SELECT docid FROM recipe_fts WHERE recipe_fts MATCH :nameQuery ORDER BY docid DESC LIMIT :limit)
+      UNION ALL
+      SELECT docid FROM (SELECT docid FROM recipe_fts WHERE recipe_fts MATCH :query ORDER BY docid DESC LIMIT :limit)
+    )
+    """
+  )
+  abstract fun observeSearch(query: String, nameQuery: String, limit: Int): Flow<List<RecipeSearchResult>>
+
+  suspend fun getById(id: String): Recipe = loadById(id).toRecipe()
+
+  fun observeById(id: String): Flow<Recipe> = observeDetailsById(id).map { it.toRecipe() }
+
+  fun getByName(name: String): Recipe = loadByName(name).toRecipe()
+
+  @Transaction
+  open suspend fun upsert(recipe: Recipe) {
+    val rows = RecipeRows(recipe)
+
+    // Children are replaced wholesale, deleting them cascades to the instruction links
+    upsertRecipe(rows.recipe)
+    deleteIngredients(recipe.id)
+    deleteInstructions(recipe.id)
+    deleteEquipment(recipe.id)
+
+    insertIngredients(rows.ingredients)
+    insertInstructions(rows.instructions)
+    insertEquipment(rows.equipment)
+    insertInstructionIngredients(rows.instructionIngredients)
+    insertInstructionEquipment(rows.instructionEquipment)
+
+    insertSearchKey(recipe.id)
+    deleteSearchIndex(recipe.id)
+    insertSearchIndex(recipe.id)
+  }
+
+  @Transaction
+  open suspend fun delete(recipe: Recipe) {
+    deleteSearchIndex(recipe.id)
+    deleteById(recipe.id)
+  }
+
+  @Query("SELECT id, name, cover, servings, prep_time, cook_time FROM recipe ORDER BY name, rowid")
+  protected abstract fun pagingSourceByName(): PagingSource<Int, RecipeSummary>
+
+  @Query("SELECT id, name, cover, servings, prep_time, cook_time FROM recipe ORDER BY created_at DESC, rowid DESC")
+  protected abstract fun pagingSourceByDate(): PagingSource<Int, RecipeSummary>
+
+  @Query("SELECT id, name, cover, servings, prep_time, cook_time FROM recipe ORDER BY rating DESC, name, rowid")
+  protected abstract fun pagingSourceByRating(): PagingSource<Int, RecipeSummary>
+
+  @Transaction
   @Query("SELECT * FROM recipe")
-  suspend fun getAll(): List<Recipe>
+  protected abstract suspend fun loadAll(): List<RecipeWithDetails>
 
+  @Transaction
   @Query("SELECT * FROM recipe")
-  fun observeAll(): Flow<List<Recipe>>
+  protected abstract fun observeAllDetails(): Flow<List<RecipeWithDetails>>
 
+  @Transaction
   @Query("SELECT * FROM recipe WHERE id = :id")
-  suspend fun getById(id: String): Recipe
+  protected abstract suspend fun loadById(id: String): RecipeWithDetails
 
+  @Transaction
   @Query("SELECT * FROM recipe WHERE id = :id")
-  fun observeById(id: String): Flow<Recipe>
+  protected abstract fun observeDetailsById(id: String): Flow<RecipeWithDetails>
 
+  @Transaction
   @Query("SELECT * FROM recipe WHERE name LIKE :name LIMIT 1")
-  fun getByName(name: String): Recipe
+  protected abstract fun loadByName(name: String): RecipeWithDetails
+
+  @Upsert
+  protected abstract suspend fun upsertRecipe(recipe: RecipeEntity)
+
+  // Ids are only ever repeated within a recipe by copies of the same row
+  @Insert(onConflict = OnConflictStrategy.IGNORE)
+  protected abstract suspend fun insertIngredients(ingredients: List<IngredientEntity>)
+
+  @Insert(onConflict = OnConflictStrategy.IGNORE)
+  protected abstract suspend fun insertInstructions(instructions: List<InstructionEntity>)
+
+  @Insert(onConflict = OnConflictStrategy.IGNORE)
+  protected abstract suspend fun insertEquipment(equipment: List<EquipmentEntity>)
+
+  @Insert(onConflict = OnConflictStrategy.IGNORE)
+  protected abstract suspend fun insertInstructionIngredients(links: List<InstructionIngredientRef>)
 
-  @Upsert(entity = Recipe::class)
-  suspend fun upsert(recipe: Recipe)
+  @Insert(onConflict = OnConflictStrategy.IGNORE)
+  protected abstract suspend fun insertInstructionEquipment(links: List<InstructionEquipmentRef>)
 
-  @Delete
-  suspend fun delete(recipe: Recipe)
-}
\ No newline at end of file
+  @Query("DELETE FROM ingredient WHERE recipe_id = :recipeId")
+  protected abstract suspend fun deleteIngredients(recipeId: String)
+
+  @Query("DELETE FROM instruction WHERE recipe_id = :recipeId")
+  protected abstract suspend fun deleteInstructions(recipeId: String)
+
+  @Query("DELETE FROM equipment WHERE recipe_id = :recipeId")
+  protected abstract suspend fun deleteEquipment(recipeId: String)
+
+  @Query("DELETE FROM recipe WHERE id = :id")
+  protected abstract suspend fun deleteById(id: String)
+
+  // A recipe keeps its docid for as long as it exists, the key row goes with it when it's deleted
+  @Query("INSERT OR IGNORE INTO recipe_fts_key (recipe_id) VALUES (:id)")
+  protected abstract suspend fun insertSearchKey(id: String)
+
+  @Query("DELETE FROM recipe_fts WHERE docid = (SELECT docid FROM recipe_fts_key WHERE recipe_id = :id)")
+  protected abstract suspend fun deleteSearchIndex(id: String)
+
+  @Query(
+    """
+    INSERT INTO recipe_fts (docid, recipe_id, name, description, notes, ingredients, instructions)
+    SELECT recipe_fts_key.docid, recipe.id, recipe.name, recipe.description, recipe.notes,
+      (SELECT ifnull(group_concat(name, ' '), '') FROM ingredient WHERE recipe_id = recipe.id),
+      (SELECT ifnull(group_concat(text, ' '), '') FROM instruction WHERE recipe_id = recipe.id)
+    FROM recipe JOIN recipe_fts_key ON recipe_fts_key.recipe_id = recipe.id
+    WHERE recipe.id = :id
+    """
+  )
+  protected abstract suspend fun insertSearchIndex(id: String)
+}
@@ -0,0 +1,303 @@
+package com.kronos.skilletapp.database
+
+import androidx.room.ColumnInfo
+import androidx.room.Embedded
+import androidx.room.Entity
+import androidx.room.ForeignKey
+import androidx.room.Index
+import androidx.room.PrimaryKey
+import androidx.room.Relation
+import com.kronos.skilletapp.model.Equipment
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.model.Instruction
+import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.RecipeSource
+import com.kronos.skilletapp.model.RecipeTime
+import com.kronos.skilletapp.model.measurement.ConversionTable
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+
+/*
+ * The tables behind a [Recipe]. Ingredients, instructions and equipment are rows of their own keyed by recipe, and an
+ * instruction refers to its ingredients and equipment by id instead of holding copies of them.
+ *
+ * Ids are only unique within a recipe, a copied recipe keeps the ids of its ingredients, so every child table is keyed
+ * by (recipe_id, id). The recipe id leads each of those keys, which makes it the index every per-recipe lookup uses.
+ */
+
+// Each index serves one RecipesSortType, with the rowid every index ends in as the tiebreaker
+@Entity(
+  tableName = "recipe",
+  indices = [
+    Index("name"),
+    Index("created_at"),
+    Index(value = ["rating", "name"], orders = [Index.Order.DESC, Index.Order.ASC]),
+  ]
+)
+data class RecipeEntity(
+  @PrimaryKey val id: String,
+  @ColumnInfo(collate = ColumnInfo.NOCASE) val name: String,
+  val description: String,
+  val cover: String? = null,
+  val notes: String,
+  val servings: Int,
+  val rating: Int,
+  @ColumnInfo(name = "created_at") val createdAt: Long,
+  @ColumnInfo(name = "updated_at") val updatedAt: Long,
+  @Embedded val time: RecipeTime,
+  @Embedded val source: RecipeSource,
+)
+
+@Entity(
+  tableName = "ingredient",
+  primaryKeys = ["recipe_id", "id"],
+  foreignKeys = [
+    ForeignKey(
+      entity = RecipeEntity::class,
+      parentColumns = ["id"],
+      childColumns = ["recipe_id"],
+      onDelete = ForeignKey.CASCADE
+    )
+  ]
+)
+data class IngredientEntity(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  val id: String,
+  val position: Int,
+  val name: String,
+  val raw: String,
+  val comment: String?,
+  val quantity: Float,
+  // Index of the unit in the conversion table, custom units and no unit are NO_ID
+  @ColumnInfo(name = "unit_id") val unitId: Int,
+  @ColumnInfo(name = "custom_unit") val customUnit: String?,
+) {
+  fun toIngredient() = Ingredient(
+    name = name,
+    measurement = Measurement(quantity, unit()),
+    raw = raw,
+    comment = comment,
+    id = id
+  )
+
+  private fun unit() = when {
+    unitId != MeasurementUnit.NO_ID -> ConversionTable.units[unitId]
+    customUnit != null -> MeasurementUnit.Custom(customUnit)
+    else -> MeasurementUnit.None
+  }
+}
+
+@Entity(
+  tableName = "instruction",
+  primaryKeys = ["recipe_id", "id"],
+  foreignKeys = [
+    ForeignKey(
+      entity = RecipeEntity::class,
+      parentColumns = ["id"],
+      childColumns = ["recipe_id"],
+      onDelete = ForeignKey.CASCADE
+    )
+  ]
+)
+data class InstructionEntity(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  val id: String,
+  val position: Int,
+  val text: String,
+  val image: String?,
+)
+
+@Entity(
+  tableName = "equipment",
+  primaryKeys = ["recipe_id", "id"],
+  foreignKeys = [
+    ForeignKey(
+      entity = RecipeEntity::class,
+      parentColumns = ["id"],
+      childColumns = ["recipe_id"],
+      onDelete = ForeignKey.CASCADE
+    )
+  ]
+)
+data class EquipmentEntity(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  val id: String,
+  val position: Int,
+  val name: String,
+) {
+  fun toEquipment() = Equipment(name = name, id = id)
+}
+
+@Entity(
+  tableName = "instruction_ingredient",
+  primaryKeys = ["recipe_id", "instruction_id", "ingredient_id"],
+  foreignKeys = [
+    ForeignKey(
+      entity = InstructionEntity::class,
+      parentColumns = ["recipe_id", "id"],
+      childColumns = ["recipe_id", "instruction_id"],
+      onDelete = ForeignKey.CASCADE
+    ),
+    ForeignKey(
+      entity = IngredientEntity::class,
+      parentColumns = ["recipe_id", "id"],
+      childColumns = ["recipe_id", "ingredient_id"],
+      onDelete = ForeignKey.CASCADE
+    ),
+  ],
+  indices = [Index("recipe_id", "ingredient_id")]
+)
+data class InstructionIngredientRef(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  @ColumnInfo(name = "instruction_id") val instructionId: String,
+  @ColumnInfo(name = "ingredient_id") val ingredientId: String,
+  val position: Int,
+)
+
+@Entity(
+  tableName = "instruction_equipment",
+  primaryKeys = ["recipe_id", "instruction_id", "equipment_id"],
+  foreignKeys = [
+    ForeignKey(
+      entity = InstructionEntity::class,
+      parentColumns = ["recipe_id", "id"],
+      childColumns = ["recipe_id", "instruction_id"],
+      onDelete = ForeignKey.CASCADE
+    ),
+    ForeignKey(
+      entity = EquipmentEntity::class,
+      parentColumns = ["recipe_id", "id"],
+      childColumns = ["recipe_id", "equipment_id"],
+      onDelete = ForeignKey.CASCADE
+    ),
+  ],
+  indices = [Index("recipe_id", "equipment_id")]
+)
+data class InstructionEquipmentRef(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  @ColumnInfo(name = "instruction_id") val instructionId: String,
+  @ColumnInfo(name = "equipment_id") val equipmentId: String,
+  val position: Int,
+)
+
+/**
+ * A recipe row with every row that belongs to it, each relation loaded with one query per batch of recipes.
+ */
+data class RecipeWithDetails(
+  @Embedded val recipe: RecipeEntity,
+  @Relation(parentColumn = "id", entityColumn = "recipe_id")
+  val ingredients: List<IngredientEntity>,
+  @Relation(parentColumn = "id", entityColumn = "recipe_id")
+  val instructions: List<InstructionEntity>,
+  @Relation(parentColumn = "id", entityColumn = "recipe_id")
+  val equipment: List<EquipmentEntity>,
+  @Relation(parentColumn = "id", entityColumn = "recipe_id")
+  val instructionIngredients: List<InstructionIngredientRef>,
+  @Relation(parentColumn = "id", entityColumn = "recipe_id")
+  val instructionEquipment: List<InstructionEquipmentRef>,
+) {
+  fun toRecipe(): Recipe {
+    // Relations come back in no particular order
+    val ingredients = ingredients.sortedBy { it.position }.map { it.toIngredient() }
+    val equipment = equipment.sortedBy { it.position }.map { it.toEquipment() }
+
+    val ingredientsById = ingredients.associateBy { it.id }
+    val equipmentById = equipment.associateBy { it.id }
+    val ingredientsByInstruction = instructionIngredients
+      .sortedBy { it.position }
+      .groupBy({ it.instructionId }, { ingredientsById.getValue(it.ingredientId) })
+    val equipmentByInstruction = instructionEquipment
+      .sortedBy { it.position }
+      .groupBy({ it.instructionId }, { equipmentById.getValue(it.equipmentId) })
+
+    return Recipe(
+      id = recipe.id,
+      name = recipe.name,
+      description = recipe.description,
+      cover = recipe.cover,
+      notes = recipe.notes,
+      servings = recipe.servings,
+      time = recipe.time,
+      source = recipe.source,
+      rating = recipe.rating,
+      createdAt = recipe.createdAt,
+      updatedAt = recipe.updatedAt,
+      ingredients = ingredients,
+      instructions = instructions.sortedBy { it.position }.map {
+        Instruction(
+          text = it.text,
+          image = it.image,
+          equipment = equipmentByInstruction[it.id].orEmpty(),
+          ingredients = ingredientsByInstruction[it.id].orEmpty(),
+          id = it.id
+        )
+      },
+      equipment = equipment
+    )
+  }
+}
+
+/**
+ * The rows a [Recipe] is stored as.
+ *
+ * An instruction can only refer to ingredients and equipment of its own recipe, links to anything else are dropped.
+ */
+class RecipeRows(recipe: Recipe) {
+  val recipe = RecipeEntity(
+    id = recipe.id,
+    name = recipe.name,
+    description = recipe.description,
+    cover = recipe.cover,
+    notes = recipe.notes,
+    servings = recipe.servings,
+    rating = recipe.rating,
+    createdAt = recipe.createdAt,
+    updatedAt = recipe.updatedAt,
+    time = recipe.time,
+    source = recipe.source
+  )
+
+  val ingredients = recipe.ingredients.mapIndexed { position, ingredient ->
+    val unit = ingredient.measurement.unit
+    IngredientEntity(
+      recipeId = recipe.id,
+      id = ingredient.id,
+      position = position,
+      name = ingredient.name,
+      raw = ingredient.raw,
+      comment = ingredient.comment,
+      quantity = ingredient.measurement.quantity,
+      unitId = unit.id,
+      customUnit = (unit as? MeasurementUnit.Custom)?.name
+    )
+  }
+
+  val instructions = recipe.instructions.mapIndexed { position, instruction ->
+    InstructionEntity(
+      recipeId = recipe.id,
+      id = instruction.id,
+      position = position,
+      text = instruction.text,
+      image = instruction.image
+    )
+  }
+
+  val equipment = recipe.equipment.mapIndexed { position, equipment ->
+    EquipmentEntity(recipeId = recipe.id, id = equipment.id, position = position, name = equipment.name)
+  }
+
+  private val ingredientIds = ingredients.mapTo(HashSet()) { it.id }
+  private val equipmentIds = equipment.mapTo(HashSet()) { it.id }
+
+  val instructionIngredients = recipe.instructions.flatMap { instruction ->
+    instruction.ingredients.filter { it.id in ingredientIds }.distinctBy { it.id }.mapIndexed { position, ingredient ->
+      InstructionIngredientRef(recipe.id, instruction.id, ingredient.id, position)
+    }
+  }
+
+  val instructionEquipment = recipe.instructions.flatMap { instruction ->
+    instruction.equipment.filter { it.id in equipmentIds }.distinctBy { it.id }.mapIndexed { position, equipment ->
+      InstructionEquipmentRef(recipe.id, instruction.id, equipment.id, position)
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.kronos.skilletapp.database
+
+import androidx.room.ColumnInfo
+import androidx.room.Embedded
+import androidx.room.Entity
+import androidx.room.ForeignKey
+import androidx.room.Fts4
+import androidx.room.FtsOptions
+import androidx.room.Index
+import androidx.room.PrimaryKey
+import com.kronos.skilletapp.model.RecipeSummary
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+/**
+ * Full-text index of a recipe, one row per recipe. Rows refer to their recipe by id, the recipe's rowid isn't stable
+ * enough to link them, VACUUM or rebuilding the table may renumber it. Each row's docid comes from [RecipeFtsKey].
+ *
+ * The ingredient and instruction columns hold the text of every ingredient name and instruction step. The index spans
+ * several tables, so [RecipeDao] rewrites a recipe's row whenever it writes the recipe rather than relying on triggers.
+ */
+@Fts4(tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = [2, 3], notIndexed = ["recipe_id"])
+@Entity(tableName = "recipe_fts")
+data class RecipeFts(
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+  val name: String,
+  val description: String,
+  val notes: String,
+  val ingredients: String,
+  val instructions: String,
+)
+
+/**
+ * The docid of each recipe's [RecipeFts] row. FTS4 can only look a row up by its docid, a lookup by recipe_id reads
+ * every row, so rewriting a recipe's row finds it through here. The docid is an INTEGER PRIMARY KEY, which VACUUM keeps.
+ */
+@Entity(
+  tableName = "recipe_fts_key",
+  foreignKeys = [
+    ForeignKey(
+      entity = RecipeEntity::class,
+      parentColumns = ["id"],
+      childColumns = ["recipe_id"],
+      onDelete = ForeignKey.CASCADE
+    )
+  ],
+  indices = [Index(value = ["recipe_id"], unique = true)]
+)
+data class RecipeFtsKey(
+  @PrimaryKey val docid: Long,
+  @ColumnInfo(name = "recipe_id") val recipeId: String,
+)
+
+class RecipeSearchResult(
+  @Embedded val summary: RecipeSummary,
+  @ColumnInfo(name = "match_info") val matchInfo: ByteArray,
+)
+
+object RecipeSearch {
+  /**
+   * The most results a search returns. A short prefix can match most of the library, so rather than ranking every match
+   * only the latest [RESULT_LIMIT] name matches and the latest [RESULT_LIMIT] matches in any column are read and ranked.
+   * A recipe named after the query is never pushed out by newer recipes that only mention it in their instructions.
+   */
+  const val RESULT_LIMIT = 100
+
+  // How much a hit in each column of recipe_fts counts towards the rank, in column order, recipe_id never matches
+  private val weights = doubleArrayOf(0.0, 10.0, 2.0, 1.0, 4.0, 1.0)
+
+  /**
+   * Turns what was typed into an FTS query matching recipes with a word starting with each typed word, or null when
+   * there's nothing to search for.
+   *
+   * Only letters and digits are kept, so nothing the user types can be read as FTS syntax.
+   */
+  fun matchQuery(text: String): String? = words(text)?.joinToString(" ") { "$it*" }
+
+  // The same as matchQuery, but only matching words in the name column
+  fun nameMatchQuery(text: String): String? = words(text)?.joinToString(" ") { "name:$it*" }
+
+  private fun words(text: String): List<String>? {
+    // Lowercase so words like OR and NOT aren't read as operators, the tokenizer folds case anyway
+    return text.lowercase().split(Regex("[^\\p{L}\\p{N}]+")).filter { it.isNotEmpty() }.ifEmpty { null }
+  }
+
+  /**
+   * Orders results from best to worst match, using the matchinfo(recipe_fts, 'pcx') of every row.
+   *
+   * Each hit counts for its column's weight divided by how common the phrase is across the whole index, so a rare
+   * word in the name outranks a common one in the instructions.
+   */
+  fun rank(results: List<RecipeSearchResult>, limit: Int = RESULT_LIMIT): List<RecipeSummary> =
+    results.sortedByDescending { score(it.matchInfo) }.take(limit).map { it.summary }
+
+  fun score(matchInfo: ByteArray): Double {
+    val info = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer()
+    val phrases = info[0]
+    val columns = info[1]
+
+    var score = 0.0
+    for (phrase in 0..<phrases) {
+      for (column in 0..<columns) {
+        val offset = 2 + (phrase * columns + column) * 3
+        val hitsInRow = info[offset]
+        val hitsInAllRows = info[offset + 1]
+        if (hitsInRow > 0) score += weights.getOrElse(column) { 1.0 } * hitsInRow / hitsInAllRows
+      }
+    }
+    return score
+  }
+}
@@ -0,0 +1,14 @@
+package com.kronos.skilletapp.model
+
+import androidx.room.Embedded
+
+/**
+ * The columns of a [Recipe] the recipe list shows, read without decoding its ingredients, instructions or equipment.
+ */
+data class RecipeSummary(
+  val id: String,
+  val name: String,
+  val cover: String? = null,
+  val servings: Int,
+  @Embedded val time: RecipeTime,
+)
@@ -0,0 +1,71 @@
+package com.kronos.skilletapp.model.measurement
+
+import com.kronos.skilletapp.model.measurement.MeasurementUnit.*
+
+object ConversionTable {
+  // Indexed by MeasurementUnit.id
+  val units: List<MeasurementUnit> = listOf(
+    Milliliter,
+    Liter,
+    Pinch,
+    Dash,
+    Teaspoon,
+    Tablespoon,
+    Cup,
+    Pint,
+    Quart,
+    Gallon,
+    FluidOunce,
+    Gram,
+    Kilogram,
+    Ounce,
+    Pound,
+  )
+
+  // Quantity of the unit's base unit in one of the unit
+  private val baseQuantities = doubleArrayOf(
+    1.0,
+    1000.0,
+    0.3080575,
+    0.616115,
+    4.92892,
+    14.7868,
+    236.588,
+    473.176,
+    946.353,
+    3785.41,
+    29.5735,
+    1.0,
+    1000.0,
+    28.3495,
+    453.592,
+  )
+
+  // Ids ordered by size in base units, volume before mass on ties. MeasurementUnit.values reads this instead of sorting
+  val sizeOrder = intArrayOf(0, 11, 2, 3, 4, 5, 13, 10, 6, 14, 7, 8, 1, 12, 9)
+
+  private val size = units.size
+
+  // factors[from * size + to] is the number of `to` in one `from`
+  private val factors = DoubleArray(size * size) { baseQuantities[it / size] / baseQuantities[it % size] }
+
+  init {
+    check(baseQuantities.size == size) { "Every unit in the conversion table needs a base quantity" }
+    units.forEachIndexed { index, unit ->
+      check(unit.id == index) { "${unit.name} has id ${unit.id} but is at index $index of the conversion table" }
+    }
+    check(sizeOrder.sorted() == units.indices.toList()) { "Size order must list every unit exactly once" }
+  }
+
+  operator fun contains(unit: MeasurementUnit): Boolean = unit.id in 0..<size
+
+  fun baseQuantity(unit: MeasurementUnit): Double = if (unit in this) baseQuantities[unit.id] else 1.0
+
+  // Units outside the table (custom and none) only measure themselves, so they convert one to one
+  fun factor(from: MeasurementUnit, to: MeasurementUnit): Double = factor(from.id, to.id)
+
+  fun factor(fromId: Int, toId: Int): Double = when {
+    fromId in 0..<size && toId in 0..<size -> factors[fromId * size + toId]
+    else -> 1.0
+  }
+}
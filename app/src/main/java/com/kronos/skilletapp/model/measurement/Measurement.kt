@@ -1,11 +1,8 @@
 package com.kronos.skilletapp.model.measurement
 
 import com.github.michaelbull.result.Result
-import com.github.michaelbull.result.expect
 import com.github.michaelbull.result.toResultOr
-import com.kronos.skilletapp.utils.haveSameTypes
 import com.kronos.skilletapp.utils.roundToEighth
-import com.kronos.skilletapp.utils.toFraction
 import kotlinx.serialization.Serializable
 import kotlin.math.absoluteValue
 
@@ -49,38 +46,20 @@ data class Measurement(
     }
   }
 
-  override fun toString(): String {
-    return when (unit) {
-      is MeasurementSystem.Metric -> "${quantity.toString().take(4).removeSuffix(".")} ${unit.name}"
-      else -> "${quantity.toFraction().roundToNearestFraction().reduce()} ${unit.name}"
-    }
-  }
+  override fun toString(): String = "${QuantityFormatter.format(quantity, unit, unicode = false)} ${unit.name}"
 
   fun scale(factor: Float) = copy(quantity = quantity * factor)
 
   fun normalized(filter: ((MeasurementUnit) -> Boolean)? = null): Measurement {
-    var normalized = copy()
-
-    while (normalized.quantity !in normalized.unit.normalizationLow..<normalized.unit.normalizationHigh) {
-      with(normalized) {
-        if (quantity <= unit.normalizationLow) {
-          normalized = normalized convertTo unit.previous(filter).expect { "No previous unit, normalization range for ${unit.name} configured incorrectly" }
-        } else if (quantity >= unit.normalizationHigh) {
-          normalized = normalized convertTo unit.next(filter).expect { "No previous unit, normalization range for ${unit.name} configured incorrectly" }
-        }
-      }
-    }
+    if (quantity in unit.normalizationLow..<unit.normalizationHigh) return this
 
-    return normalized
+    return NormalizationTable.of(filter).normalize(this)
   }
 
   fun roundToEighth() = copy(quantity = quantity.roundToEighth())
 
   val displayQuantity
-    get() = when (unit) {
-      is MeasurementSystem.Metric -> quantity.toString().take(4).removeSuffix(".")
-      else -> quantity.toFraction().roundToNearestFraction().reduce().toDisplayString()
-    }
+    get() = QuantityFormatter.format(quantity, unit)
 
   companion object {
     val None = Measurement(0f, MeasurementUnit.None)
@@ -88,17 +67,17 @@ data class Measurement(
 }
 
 fun MeasurementUnit.next(filter: ((MeasurementUnit) -> Boolean)? = null): Result<MeasurementUnit, Unit> {
-  val filtered = MeasurementUnit.values.filter { it hasSameDimensionAs this }.filter { it hasSameSystemAs this }.filter { filter?.invoke(it) != false }
-  return filtered.getOrNull(filtered.indexOf(this) + 1).toResultOr { }
+  return NormalizationTable.of(filter).next(this).toResultOr { }
 }
 
 fun MeasurementUnit.previous(filter: ((MeasurementUnit) -> Boolean)? = null): Result<MeasurementUnit, Unit> {
-  val filtered = MeasurementUnit.values.filter { it hasSameDimensionAs this }.filter { it hasSameSystemAs this }.filter { filter?.invoke(it) != false }
-  return filtered.getOrNull(filtered.indexOf(this) - 1).toResultOr { }
+  return NormalizationTable.of(filter).previous(this).toResultOr { }
 }
 
-infix fun MeasurementUnit.hasSameDimensionAs(other: MeasurementUnit) = (this to other).haveSameTypes(*MeasurementDimension::class.nestedClasses.toTypedArray())
-infix fun MeasurementUnit.hasSameSystemAs(other: MeasurementUnit) = (this to other).haveSameTypes(*MeasurementSystem::class.nestedClasses.toTypedArray())
+val noFluidOunces: (MeasurementUnit) -> Boolean = { it !is MeasurementUnit.FluidOunce }
+
+infix fun MeasurementUnit.hasSameDimensionAs(other: MeasurementUnit) = dimension == other.dimension
+infix fun MeasurementUnit.hasSameSystemAs(other: MeasurementUnit) = system == other.system
 infix fun Number.of(unit: MeasurementUnit): Measurement = Measurement(this.toFloat(), unit)
 fun Measurement.isNone() = this == Measurement.None
 fun Measurement.isNotNone() = !isNone()
@@ -1,10 +1,5 @@
 package com.kronos.skilletapp.model.measurement
 
-import com.kronos.skilletapp.model.measurement.MeasurementUnit.None.baseUnit
-import com.kronos.skilletapp.utils.mutateIf
-import com.kronos.skilletapp.utils.mutateUnless
-import kotlin.div
-
 class MeasurementConverter(
   val ratio: MeasurementRatio
 ) {
@@ -40,28 +35,8 @@ class MeasurementConverter(
       }
     }
   }
-
-  companion object {
-    val baseConverters = listOf(
-      MeasurementUnit.Liter.baseConverter(1000),
-      MeasurementUnit.Pinch.baseConverter(0.3080575),
-      MeasurementUnit.Dash.baseConverter(0.616115),
-      MeasurementUnit.Teaspoon.baseConverter(4.92892),
-      MeasurementUnit.Tablespoon.baseConverter(14.7868),
-      MeasurementUnit.FluidOunce.baseConverter(29.5735),
-      MeasurementUnit.Cup.baseConverter(236.588),
-      MeasurementUnit.Pint.baseConverter(473.176),
-      MeasurementUnit.Quart.baseConverter(946.353),
-      MeasurementUnit.Gallon.baseConverter(3785.41),
-      MeasurementUnit.Kilogram.baseConverter(1000),
-      MeasurementUnit.Ounce.baseConverter(28.3495),
-      MeasurementUnit.Pound.baseConverter(453.592),
-    )
-  }
 }
 
-private fun MeasurementUnit.baseConverter(baseUnitQuantity: Number): MeasurementConverter = converter { (1 of this@baseConverter) to (baseUnitQuantity of baseUnit) }
-
 fun MeasurementUnit.isBaseUnit(): Boolean = this == baseUnit
 
 fun converter(builder: MeasurementConverter.Builder.() -> Unit): MeasurementConverter {
@@ -81,33 +56,19 @@ infix fun Measurement.convertTo(to: MeasurementUnit): Measurement {
     "This overload is only valid if the units have the same dimension, try using the overload that takes a measurement"
   }
 
-  if (to.isBaseUnit()) return convertToBaseUnit()
-
-  return withConverter(
-    converter { unit to to }
-  ) {
-    this@convertTo convertTo to
-  }
+  return Measurement((quantity * ConversionTable.factor(unit, to)).toFloat(), to)
 }
 
 fun Measurement.convertToBaseUnit(): Measurement {
   if (unit.isBaseUnit()) return this
 
-  val converter = requireNotNull(MeasurementConverter.baseConverters.find { it.from == unit }) {
-    "No base unit converter found for ${unit.name}"
-  }
-
-  return withConverter(converter) {
-    this@convertToBaseUnit convertTo unit.baseUnit
-  }
+  return Measurement((quantity * ConversionTable.baseQuantity(unit)).toFloat(), unit.baseUnit)
 }
 
 infix fun Measurement.convertTo(to: Measurement): Measurement {
-  val converter = if (unit hasSameDimensionAs to.unit) {
-    converter { unit to to.unit }
-  } else {
-    converter { this@convertTo to to }
-  }
+  if (unit hasSameDimensionAs to.unit) return this convertTo to.unit
+
+  val converter = converter { this@convertTo to to }
 
   return withConverter(converter) {
     this@convertTo convertTo to.unit
@@ -162,10 +123,7 @@ sealed interface MeasurementRatio {
     override val decimal: Float
       get() {
         checkMeasurementsAreSet()
-        val leftInBase = left.mutateUnless(left.unit.isBaseUnit()) { left.convertToBaseUnit() }
-        val rightInBase = right.mutateUnless(right.unit.isBaseUnit()) { right.convertToBaseUnit() }
-
-        return leftInBase.quantity / rightInBase.quantity
+        return (left.quantity * ConversionTable.factor(left.unit, right.unit) / right.quantity).toFloat()
       }
 
     override fun invert() = copy(left = right, right = left)
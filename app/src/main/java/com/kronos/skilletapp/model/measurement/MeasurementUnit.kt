@@ -31,6 +31,19 @@ sealed interface MeasurementSystem {
   interface None : MeasurementSystem
 }
 
+// Flat tags mirroring MeasurementDimension and MeasurementSystem, used for comparisons on hot paths
+enum class DimensionType {
+  Mass,
+  Volume,
+  None,
+}
+
+enum class SystemType {
+  Metric,
+  UsCustomary,
+  None,
+}
+
 @OptIn(ExperimentalSerializationApi::class)
 @Serializable
 @JsonClassDiscriminator("measurement_type")
@@ -41,31 +54,42 @@ sealed interface MeasurementUnit {
   val normalizationLow: Float
   val normalizationHigh: Float
   val baseUnit: MeasurementUnit
+  val id: Int
+  val dimension: DimensionType
+  val system: SystemType
 
   @Serializable
   @SerialName("mass")
   sealed class Mass(
+    override val id: Int,
     override val name: String,
     override val abbreviation: String,
     override val aliases: List<String>,
     override val normalizationLow: Float,
     override val normalizationHigh: Float,
+    override val system: SystemType,
   ) : MeasurementUnit, MeasurementDimension.Mass {
     override val baseUnit: Mass
       get() = Gram
+    override val dimension: DimensionType
+      get() = DimensionType.Mass
   }
 
   @Serializable
   @SerialName("volume")
   sealed class Volume(
+    override val id: Int,
     override val name: String,
     override val abbreviation: String,
     override val aliases: List<String>,
     override val normalizationLow: Float,
     override val normalizationHigh: Float,
+    override val system: SystemType,
   ) : MeasurementUnit, MeasurementDimension.Volume {
     override val baseUnit: Volume
       get() = Milliliter
+    override val dimension: DimensionType
+      get() = DimensionType.Volume
   }
 
   @Serializable
@@ -84,6 +108,12 @@ sealed interface MeasurementUnit {
 
     override val baseUnit: MeasurementUnit
       get() = this
+    override val id: Int
+      get() = NO_ID
+    override val dimension: DimensionType
+      get() = DimensionType.None
+    override val system: SystemType
+      get() = SystemType.None
   }
 
   @Serializable
@@ -102,6 +132,12 @@ sealed interface MeasurementUnit {
 
     override val baseUnit: MeasurementUnit
       get() = this
+    override val id: Int
+      get() = NO_ID
+    override val dimension: DimensionType
+      get() = DimensionType.None
+    override val system: SystemType
+      get() = SystemType.None
   }
 
   // Volume
@@ -111,21 +147,25 @@ sealed interface MeasurementUnit {
   @Serializable
   @SerialName("milliliter")
   data object Milliliter : Volume(
+    id = 0,
     name = "milliliter",
     abbreviation = "mL",
     aliases = listOf("mL"),
     normalizationLow = 0f,
     normalizationHigh = 1000f,
+    system = SystemType.Metric,
   ), MeasurementSystem.Metric
 
   @Serializable
   @SerialName("liter")
   data object Liter : Volume(
+    id = 1,
     name = "liter",
     abbreviation = "L",
     aliases = listOf("L"),
     normalizationLow = 0.51f,
     normalizationHigh = Float.POSITIVE_INFINITY,
+    system = SystemType.Metric,
   ), MeasurementSystem.Metric
 
   //// US Customary
@@ -133,91 +173,109 @@ sealed interface MeasurementUnit {
   @Serializable
   @SerialName("pinch")
   data object Pinch : Volume(
+    id = 2,
     name = "pinch",
     abbreviation = "pinch",
     aliases = listOf("pinch"),
     normalizationLow = 0f,
     normalizationHigh = 2f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("dash")
   data object Dash : Volume(
+    id = 3,
     name = "dash",
     abbreviation = "dash",
     aliases = listOf("dash"),
     normalizationLow = 0.51f,
     normalizationHigh = 2f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("teaspoon")
   data object Teaspoon : Volume(
+    id = 4,
     name = "teaspoon",
     abbreviation = "tsp",
     aliases = listOf("tsp", "t", "teaspoons"),
     normalizationLow = 0.26f,
     normalizationHigh = 3f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("tablespoon")
   data object Tablespoon : Volume(
+    id = 5,
     name = "tablespoon",
     abbreviation = "tbsp",
     aliases = listOf("tbsp", "Tbsp", "T", "tbs", "Tbs", "tablespoons", "Tablespoons"),
     normalizationLow = 0.334f,
     normalizationHigh = 4f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("cup")
   data object Cup : Volume(
+    id = 6,
     name = "cup",
     abbreviation = "cup",
     aliases = listOf("cup", "c", "C", "cups"),
     normalizationLow = 0.26f,
     normalizationHigh = Float.POSITIVE_INFINITY,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("pint")
   data object Pint : Volume(
+    id = 7,
     name = "pint",
     abbreviation = "pt",
     aliases = listOf("pt", "pints", "Pint"),
     normalizationLow = 0.51f,
     normalizationHigh = 2f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("quart")
   data object Quart : Volume(
+    id = 8,
     name = "quart",
     abbreviation = "qt",
     aliases = listOf("qt", "quarts", "Quart"),
     normalizationLow = 0.51f,
     normalizationHigh = 4f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("gallon")
   data object Gallon : Volume(
+    id = 9,
     name = "gallon",
     abbreviation = "gal",
     aliases = listOf("gal", "gallons", "Gallon"),
     normalizationLow = 0.26f,
     normalizationHigh = Float.POSITIVE_INFINITY,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("fluid_ounce")
   data object FluidOunce : Volume(
+    id = 10,
     name = "fluid ounce",
     abbreviation = "fl oz",
     aliases = listOf("fl oz"),
     normalizationLow = 0.51f,
     normalizationHigh = 8f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   // Mass
@@ -227,21 +285,25 @@ sealed interface MeasurementUnit {
   @Serializable
   @SerialName("gram")
   data object Gram : Mass(
+    id = 11,
     name = "gram",
     abbreviation = "g",
     aliases = listOf("g", "grams"),
     normalizationLow = 0f,
     normalizationHigh = 1000f,
+    system = SystemType.Metric,
   ), MeasurementSystem.Metric
 
   @Serializable
   @SerialName("kilogram")
   data object Kilogram : Mass(
+    id = 12,
     name = "kilogram",
     abbreviation = "kg",
     aliases = listOf("kg", "kilograms"),
     normalizationLow = 0.51f,
     normalizationHigh = Float.POSITIVE_INFINITY,
+    system = SystemType.Metric,
   ), MeasurementSystem.Metric
 
   //// Standard
@@ -249,54 +311,33 @@ sealed interface MeasurementUnit {
   @Serializable
   @SerialName("ounce")
   data object Ounce : Mass(
+    id = 13,
     name = "ounce",
     abbreviation = "oz",
     aliases = listOf("oz", "ounces", "Ounce"),
     normalizationLow = 0f,
     normalizationHigh = 16f,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   @Serializable
   @SerialName("pound")
   data object Pound : Mass(
+    id = 14,
     name = "pound",
     abbreviation = "lb",
     aliases = listOf("lb", "lbs", "pounds", "Pound"),
     normalizationLow = 0.51f,
     normalizationHigh = Float.POSITIVE_INFINITY,
+    system = SystemType.UsCustomary,
   ), MeasurementSystem.UsCustomary
 
   companion object {
+    // Id of units that are not part of the conversion table
+    const val NO_ID = -1
+
     val values: List<MeasurementUnit> by lazy {
-      listOf(
-        Milliliter,
-        Liter,
-        Pinch,
-        Dash,
-        Teaspoon,
-        Tablespoon,
-        FluidOunce,
-        Cup,
-        Pint,
-        Quart,
-        Gallon,
-        Gram,
-        Kilogram,
-        Ounce,
-        Pound,
-      ).sortedWith(
-        compareBy(
-          { (1 of it).convertToBaseUnit().quantity },
-          {
-            when (it) {
-              is Volume -> 0
-              is Mass -> 1
-              is Custom -> 2
-              is None -> 3
-            }
-          }
-        )
-      )
+      ConversionTable.sizeOrder.map { ConversionTable.units[it] }
     }
 
     private val wet = listOf(Wet)
@@ -321,10 +362,12 @@ sealed interface MeasurementUnit {
       Pound to either,
     )
 
-    fun fromName(unit: String?) = unit?.let {
-      values.firstOrNull {
-        it.name == unit || it.abbreviation == unit || it.aliases.contains(unit)
-      } ?: Custom(unit)
-    } ?: None
+    private val nameIndex by lazy { UnitNameIndex(values) }
+
+    fun fromName(unit: String?) = unit?.let { fromName(it, 0, it.length) } ?: None
+
+    fun fromName(text: CharSequence, start: Int, end: Int): MeasurementUnit {
+      return nameIndex.get(text, start, end) ?: Custom(text.substring(start, end))
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.kronos.skilletapp.model.measurement
+
+/**
+ * Normalization thresholds for every dimension and system, expressed in base units.
+ *
+ * Each chain holds the units of one dimension and system in [MeasurementUnit.values] order, after the filter is applied.
+ * Walking up from a unit lands on the first later unit whose high threshold exceeds the quantity, and walking down lands on
+ * the first earlier unit whose low threshold is at most the quantity. Only units that are a running maximum (or minimum) of
+ * those thresholds can ever be landed on, so each starting unit keeps a sorted list of them and the walk becomes a binary
+ * search.
+ */
+class NormalizationTable private constructor(filter: ((MeasurementUnit) -> Boolean)?) {
+  private val chains = arrayOfNulls<Chain>(DimensionType.entries.size * SystemType.entries.size)
+
+  init {
+    MeasurementUnit.values
+      .filter { filter?.invoke(it) != false }
+      .groupBy { key(it.dimension, it.system) }
+      .forEach { (key, units) -> chains[key] = Chain(units) }
+  }
+
+  fun normalize(measurement: Measurement): Measurement = with(measurement) {
+    val chain = chainOf(unit) ?: error("No units to normalize ${unit.name} with")
+    val base = quantity * ConversionTable.baseQuantity(unit)
+    val index = chain.indexOf(unit)
+
+    val target = if (quantity >= unit.normalizationHigh) {
+      chain.up(index, base) ?: error("No next unit, normalization range for ${unit.name} configured incorrectly")
+    } else {
+      chain.down(index, base) ?: error("No previous unit, normalization range for ${unit.name} configured incorrectly")
+    }
+
+    Measurement((base / ConversionTable.baseQuantity(target)).toFloat(), target)
+  }
+
+  fun next(unit: MeasurementUnit): MeasurementUnit? = chainOf(unit)?.let { it.units.getOrNull(it.indexOf(unit) + 1) }
+
+  fun previous(unit: MeasurementUnit): MeasurementUnit? = chainOf(unit)?.let { chain ->
+    chain.indexOf(unit).takeIf { it >= 0 }?.let { chain.units.getOrNull(it - 1) }
+  }
+
+  private fun chainOf(unit: MeasurementUnit) = chains[key(unit.dimension, unit.system)]
+
+  private fun key(dimension: DimensionType, system: SystemType) = dimension.ordinal * SystemType.entries.size + system.ordinal
+
+  private class Chain(val units: List<MeasurementUnit>) {
+    private val lows = DoubleArray(units.size) { units[it].normalizationLow * ConversionTable.baseQuantity(units[it]) }
+    private val highs = DoubleArray(units.size) { units[it].normalizationHigh * ConversionTable.baseQuantity(units[it]) }
+    private val positions = IntArray(ConversionTable.units.size) { -1 }.apply {
+      units.forEachIndexed { index, unit -> if (unit in ConversionTable) this[unit.id] = index }
+    }
+
+    // upward[i + 1]: indices after i whose high threshold beats every high threshold before them, highs ascending
+    private val upward = Array(units.size + 1) { start ->
+      var best = Double.NEGATIVE_INFINITY
+      (start..<units.size).filter { j -> (highs[j] > best).also { if (it) best = highs[j] } }.toIntArray()
+    }
+
+    // downward[i]: indices before i whose low threshold is below every low threshold after them, lows descending
+    private val downward = Array(units.size + 1) { end ->
+      var best = Double.POSITIVE_INFINITY
+      (end - 1 downTo 0).filter { j -> (lows[j] < best).also { if (it) best = lows[j] } }.toIntArray()
+    }
+
+    fun indexOf(unit: MeasurementUnit) = if (unit in ConversionTable) positions[unit.id] else -1
+
+    fun up(from: Int, base: Double): MeasurementUnit? {
+      val candidates = upward[from + 1]
+      return candidates.firstIndex { highs[it] > base }?.let { units[candidates[it]] }
+    }
+
+    fun down(from: Int, base: Double): MeasurementUnit? {
+      val candidates = downward[if (from < 0) units.size else from]
+      return candidates.firstIndex { lows[it] <= base }?.let { units[candidates[it]] }
+    }
+
+    // Binary search for the first candidate matching a predicate that is false up to some point and true after it
+    private inline fun IntArray.firstIndex(predicate: (Int) -> Boolean): Int? {
+      var low = 0
+      var high = size
+      while (low < high) {
+        val mid = (low + high) ushr 1
+        if (predicate(this[mid])) high = mid else low = mid + 1
+      }
+      return low.takeIf { it < size }
+    }
+  }
+
+  companion object {
+    private const val MAX_CACHED_FILTERS = 8
+
+    private val unfiltered by lazy { NormalizationTable(null) }
+
+    private val cache = object : LinkedHashMap<(MeasurementUnit) -> Boolean, NormalizationTable>(MAX_CACHED_FILTERS, 0.75f, true) {
+      override fun removeEldestEntry(eldest: MutableMap.MutableEntry<(MeasurementUnit) -> Boolean, NormalizationTable>?) = size > MAX_CACHED_FILTERS
+    }
+
+    // Filters are cached by identity, so shared filters like noFluidOunces are only ever built once
+    fun of(filter: ((MeasurementUnit) -> Boolean)?): NormalizationTable {
+      if (filter == null) return unfiltered
+      return synchronized(cache) { cache.getOrPut(filter) { NormalizationTable(filter) } }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.kronos.skilletapp.model.measurement
+
+/**
+ * A [Measurement] packed into a single [Long] for scaling, aggregation and conversion loops.
+ *
+ * The low [UNIT_BITS] bits of the quantity's double representation hold the unit id (offset by one so [MeasurementUnit.None]
+ * is zero), which still leaves far more precision than the [Float] quantity of [Measurement], so round trips are lossless.
+ * Only units in the [ConversionTable] and [MeasurementUnit.None] can be packed; custom units carry a name and can't.
+ */
+@JvmInline
+value class PackedMeasurement(val bits: Long) {
+  val quantity: Double
+    get() = Double.fromBits(bits and UNIT_MASK.inv())
+
+  val unitId: Int
+    get() = (bits and UNIT_MASK).toInt() - 1
+
+  val unit: MeasurementUnit
+    get() = if (unitId == MeasurementUnit.NO_ID) MeasurementUnit.None else ConversionTable.units[unitId]
+
+  operator fun times(factor: Double) = of(quantity * factor, unitId)
+  operator fun div(divisor: Double) = of(quantity / divisor, unitId)
+
+  operator fun unaryMinus() = of(-quantity, unitId)
+
+  operator fun plus(other: PackedMeasurement): PackedMeasurement {
+    require(unit hasSameDimensionAs other.unit) { "Units must measure the same dimension to properly add" }
+    return of(quantity + other.quantityIn(unitId), unitId)
+  }
+
+  operator fun minus(other: PackedMeasurement): PackedMeasurement {
+    require(unit hasSameDimensionAs other.unit) { "Units must measure the same dimension to properly subtract" }
+    return of(quantity - other.quantityIn(unitId), unitId)
+  }
+
+  operator fun compareTo(other: PackedMeasurement): Int {
+    val result = (this - other).quantity
+    return when {
+      result in -0.001..0.001 -> 0
+      result < 0 -> -1
+      else -> 1
+    }
+  }
+
+  infix fun convertTo(to: MeasurementUnit): PackedMeasurement {
+    require(unit hasSameDimensionAs to) { "Units must measure the same dimension to convert" }
+    return of(quantityIn(to.id), to.id)
+  }
+
+  fun toMeasurement() = Measurement(quantity.toFloat(), unit)
+
+  override fun toString() = "$quantity ${unit.name}"
+
+  private fun quantityIn(id: Int) = if (id == unitId) quantity else quantity * ConversionTable.factor(unitId, id)
+
+  companion object {
+    private const val UNIT_BITS = 5
+    private const val UNIT_MASK = (1L shl UNIT_BITS) - 1
+
+    val None = of(0.0, MeasurementUnit.None)
+
+    fun of(quantity: Double, unit: MeasurementUnit): PackedMeasurement {
+      require(unit == MeasurementUnit.None || unit in ConversionTable) { "Only built in units can be packed, ${unit.name} is not" }
+      return of(quantity, unit.id)
+    }
+
+    private fun of(quantity: Double, unitId: Int) = PackedMeasurement((quantity.toRawBits() and UNIT_MASK.inv()) or (unitId + 1L))
+  }
+}
+
+fun Measurement.isPackable() = unit == MeasurementUnit.None || unit in ConversionTable
+
+fun Measurement.packed() = PackedMeasurement.of(quantity.toDouble(), unit)
@@ -0,0 +1,74 @@
+package com.kronos.skilletapp.model.measurement
+
+import com.kronos.skilletapp.utils.Rational
+import com.kronos.skilletapp.utils.roundToEighth
+import com.kronos.skilletapp.utils.roundToThird
+import com.kronos.skilletapp.utils.toRational
+import java.math.RoundingMode
+import kotlin.math.abs
+import kotlin.math.roundToInt
+
+/**
+ * Formats measurement quantities for display without building fractions or strings for common values.
+ *
+ * Non-metric quantities snap to the nearest eighth or third the same way [Rational.roundToNearestFraction] does, and
+ * buckets up to [MAX_WHOLE] read a precomputed string. Metric quantities go through a small direct-mapped cache. Quantities
+ * that aren't finite or reach [MAX_FRACTION] can't be held in thousandths by a [Rational], so they print as whole decimals.
+ */
+object QuantityFormatter {
+  private const val MAX_WHOLE = 100
+  private const val METRIC_CACHE_SIZE = 256
+  private const val MAX_FRACTION = Int.MAX_VALUE / 1000f
+
+  private val eighths by lazy { FractionStrings(8) }
+  private val thirds by lazy { FractionStrings(3) }
+
+  private class MetricEntry(val bits: Int, val text: String)
+
+  private val metricCache = arrayOfNulls<MetricEntry>(METRIC_CACHE_SIZE)
+
+  fun format(quantity: Float, unit: MeasurementUnit, unicode: Boolean = true): String = when (unit.system) {
+    SystemType.Metric -> formatMetric(quantity)
+    else -> formatFraction(quantity, unicode)
+  }
+
+  fun formatMetric(quantity: Float): String {
+    val bits = quantity.toRawBits()
+    val slot = (bits xor (bits ushr 16)) and (METRIC_CACHE_SIZE - 1)
+
+    metricCache[slot]?.let { if (it.bits == bits) return it.text }
+
+    val text = quantity.toString().take(4).removeSuffix(".")
+    metricCache[slot] = MetricEntry(bits, text)
+    return text
+  }
+
+  fun formatFraction(quantity: Float, unicode: Boolean = true): String {
+    if (!quantity.isFinite() || abs(quantity) >= MAX_FRACTION) return formatDecimal(quantity)
+
+    // Quantities are truncated to thousandths before rounding, see Float.toRational
+    val thousandths = (quantity * 1000).toLong()
+    val decimal = thousandths.toFloat() / 1000
+
+    val eighthDiff = abs(decimal - decimal.roundToEighth())
+    val thirdDiff = abs(decimal - decimal.roundToThird())
+    val strings = if (eighthDiff < thirdDiff) eighths else thirds
+    val bucket = ((thousandths * strings.denominator).toFloat() / 1000).roundToInt()
+
+    return strings.get(bucket, unicode) ?: quantity.toRational().roundToNearestFraction().let {
+      if (unicode) it.toDisplayString() else it.toString()
+    }
+  }
+
+  private fun formatDecimal(quantity: Float): String = when {
+    quantity.isFinite() -> quantity.toBigDecimal().setScale(0, RoundingMode.HALF_UP).toPlainString()
+    else -> quantity.toString()
+  }
+
+  private class FractionStrings(val denominator: Int) {
+    private val ascii = Array(MAX_WHOLE * denominator + 1) { Rational.of(it, denominator).toString().intern() }
+    private val unicode = Array(MAX_WHOLE * denominator + 1) { Rational.of(it, denominator).toDisplayString().intern() }
+
+    fun get(bucket: Int, unicode: Boolean): String? = (if (unicode) this.unicode else ascii).getOrNull(bucket)
+  }
+}
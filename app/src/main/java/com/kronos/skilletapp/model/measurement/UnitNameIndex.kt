@@ -0,0 +1,89 @@
+package com.kronos.skilletapp.model.measurement
+
+/**
+ * Open addressed hash index from unit names, abbreviations and aliases to units.
+ *
+ * Lookups hash the characters of a [CharSequence] range directly, so callers can resolve a slice of a larger input without
+ * creating a [String]. Exact matches are tried first; the case-insensitive table only holds keys that are unambiguous once
+ * case is ignored, so "T" and "t" still resolve to different units.
+ */
+class UnitNameIndex(units: List<MeasurementUnit>) {
+  // Every key as written, and the lowercase keys that only ever name one unit
+  val exactKeys: Map<String, MeasurementUnit>
+  val caseInsensitiveKeys: Map<String, MeasurementUnit>
+
+  private val exact: Table
+  private val caseInsensitive: Table
+
+  init {
+    val exactEntries = LinkedHashMap<String, MeasurementUnit>()
+    units.forEach { unit ->
+      unit.keys().forEach { exactEntries.putIfAbsent(it, unit) }
+    }
+
+    val foldedEntries = exactEntries.entries.groupBy({ it.key.lowercase() }, { it.value })
+      .filterValues { it.distinct().size == 1 }
+      .mapValues { it.value.first() }
+
+    exactKeys = exactEntries
+    caseInsensitiveKeys = foldedEntries
+    exact = Table(exactEntries, ignoreCase = false)
+    caseInsensitive = Table(foldedEntries, ignoreCase = true)
+  }
+
+  operator fun get(text: CharSequence): MeasurementUnit? = get(text, 0, text.length)
+
+  fun get(text: CharSequence, start: Int, end: Int): MeasurementUnit? {
+    return exact.find(text, start, end) ?: caseInsensitive.find(text, start, end)
+  }
+
+  private fun MeasurementUnit.keys() = listOf(name, abbreviation) + aliases
+
+  private class Table(entries: Map<String, MeasurementUnit>, private val ignoreCase: Boolean) {
+    private val mask: Int
+    private val keys: Array<String?>
+    private val units: Array<MeasurementUnit?>
+
+    init {
+      var capacity = 16
+      while (capacity < entries.size * 2) capacity = capacity shl 1
+
+      mask = capacity - 1
+      keys = arrayOfNulls(capacity)
+      units = arrayOfNulls(capacity)
+
+      entries.forEach { (key, unit) ->
+        var slot = hash(key, 0, key.length) and mask
+        while (keys[slot] != null) slot = (slot + 1) and mask
+        keys[slot] = key
+        units[slot] = unit
+      }
+    }
+
+    fun find(text: CharSequence, start: Int, end: Int): MeasurementUnit? {
+      var slot = hash(text, start, end) and mask
+      while (true) {
+        val key = keys[slot] ?: return null
+        if (key.matches(text, start, end)) return units[slot]
+        slot = (slot + 1) and mask
+      }
+    }
+
+    private fun String.matches(text: CharSequence, start: Int, end: Int): Boolean {
+      if (length != end - start) return false
+      for (i in indices) {
+        if (!this[i].equals(text[start + i], ignoreCase)) return false
+      }
+      return true
+    }
+
+    private fun hash(text: CharSequence, start: Int, end: Int): Int {
+      var hash = 0
+      for (i in start..<end) {
+        val c = if (ignoreCase) text[i].lowercaseChar() else text[i]
+        hash = 31 * hash + c.code
+      }
+      return hash xor (hash ushr 16)
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarLexer
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarParser
+import org.antlr.v4.runtime.atn.ATN
+import org.antlr.v4.runtime.atn.PredictionContextCache
+import org.antlr.v4.runtime.dfa.DFA
+
+/**
+ * The DFA and prediction context caches ANTLR builds up while parsing, which is where almost all of the speed of a warm
+ * parser comes from. Every [ParserEngine] built from the same cache shares what the others have learned.
+ */
+class GrammarCache(
+  val lexerDfa: Array<DFA>,
+  val lexerContextCache: PredictionContextCache,
+  val parserDfa: Array<DFA>,
+  val parserContextCache: PredictionContextCache,
+) {
+  val lexerStates: Int
+    get() = lexerDfa.sumOf { it.states.size }
+
+  val parserStates: Int
+    get() = parserDfa.sumOf { it.states.size }
+
+  companion object {
+    // The generated recognizers' own static caches, so engines and any recognizer built directly warm the same DFA
+    val shared by lazy {
+      val lexer = IngredientGrammarLexer(null).interpreter
+      val parser = IngredientGrammarParser(null).interpreter
+
+      GrammarCache(lexer.decisionToDFA, lexer.sharedContextCache, parser.decisionToDFA, parser.sharedContextCache)
+    }
+
+    // An empty cache, for measuring how the parser behaves cold
+    fun fresh() = GrammarCache(
+      lexerDfa = dfaOf(IngredientGrammarLexer._ATN),
+      lexerContextCache = PredictionContextCache(),
+      parserDfa = dfaOf(IngredientGrammarParser._ATN),
+      parserContextCache = PredictionContextCache(),
+    )
+
+    private fun dfaOf(atn: ATN) = Array(atn.numberOfDecisions) { DFA(atn.getDecisionState(it), it) }
+  }
+}
@@ -1,35 +1,65 @@
 grammar IngredientGrammar;
 
-recipe : ingredient+ EOF ;
+@lexer::members {
+  private static boolean isWordChar(int c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '-';
+  }
+}
 
-ingredient : (measurement WHITESPACE)? name comment? NEWLINE ;
+// Every decision here is LL(1). Quantities and known units are single tokens, and whether the first word of the name is
+// the unit is decided by IngredientVisitor, which needs to know whether another word follows it.
 
-measurement : quantity (WHITESPACE WORD)? ;
+recipe : ingredient+ EOF ;
 
-quantity : (decimal | fraction | range) ;
+ingredient : (quantity WHITESPACE)? name comment? NEWLINE ;
 
-decimal : NUMBER ;
-fraction : (NUMBER WHITESPACE)? NUMBER ('/' | WHITESPACE)+ NUMBER ;
-range : (decimal | fraction) ('-' | WHITESPACE)+ (decimal | fraction) ;
+quantity : NUMBER | FRACTION | RANGE ;
 
-name : (WORD | WHITESPACE)*? WORD WHITESPACE? ;
+// A name can't start with a number, so any later numbers stay part of the name instead of failing the line
+name : (WORD | unit | WHITESPACE) (WORD | unit | WHITESPACE | NUMBER | FRACTION | RANGE)* ;
 
 comment : COMMENT_START (~NEWLINE)+ ;
 
 fragment LOWERCASE : [a-z] ;
 fragment UPPERCASE : [A-Z] ;
 fragment DIGIT : [0-9] ;
+fragment INTEGER : DIGIT+ ;
+fragment DECIMAL : DIGIT+ ([.,] DIGIT+)? ;
+fragment SPACE : (' ' | '\t') ;
+fragment FRACTION_PART : (INTEGER SPACE)? INTEGER ('/' | SPACE)+ INTEGER ;
+
+// Units come before WORD so they win when both match the same text, longer words like "cupcake" are still a WORD.
+// BEGIN UNITS, generated by UnitTokens.grammarRules()
+unit : UNIT_MILLILITER | UNIT_LITER | UNIT_PINCH | UNIT_DASH | UNIT_TEASPOON | UNIT_TABLESPOON | UNIT_CUP | UNIT_PINT | UNIT_QUART | UNIT_GALLON | UNIT_FLUID_OUNCE | UNIT_GRAM | UNIT_KILOGRAM | UNIT_OUNCE | UNIT_POUND ;
+
+UNIT_MILLILITER : [mM] [iI] [lL] [lL] [iI] [lL] [iI] [tT] [eE] [rR] | [mM] [lL] ;
+UNIT_LITER : [lL] [iI] [tT] [eE] [rR] | [lL] ;
+UNIT_PINCH : [pP] [iI] [nN] [cC] [hH] ;
+UNIT_DASH : [dD] [aA] [sS] [hH] ;
+UNIT_TEASPOON : [tT] [eE] [aA] [sS] [pP] [oO] [oO] [nN] | [tT] [sS] [pP] | [tT] [eE] [aA] [sS] [pP] [oO] [oO] [nN] [sS] | 't' ;
+UNIT_TABLESPOON : [tT] [aA] [bB] [lL] [eE] [sS] [pP] [oO] [oO] [nN] | [tT] [bB] [sS] [pP] | [tT] [bB] [sS] | [tT] [aA] [bB] [lL] [eE] [sS] [pP] [oO] [oO] [nN] [sS] | 'T' ;
+UNIT_CUP : [cC] [uU] [pP] | [cC] | [cC] [uU] [pP] [sS] ;
+UNIT_PINT : [pP] [iI] [nN] [tT] | [pP] [tT] | [pP] [iI] [nN] [tT] [sS] ;
+UNIT_QUART : [qQ] [uU] [aA] [rR] [tT] | [qQ] [tT] | [qQ] [uU] [aA] [rR] [tT] [sS] ;
+UNIT_GALLON : [gG] [aA] [lL] [lL] [oO] [nN] | [gG] [aA] [lL] | [gG] [aA] [lL] [lL] [oO] [nN] [sS] ;
+UNIT_FLUID_OUNCE : [fF] [lL] [uU] [iI] [dD] ' ' [oO] [uU] [nN] [cC] [eE] {!isWordChar(_input.LA(1))}? | [fF] [lL] ' ' [oO] [zZ] {!isWordChar(_input.LA(1))}? ;
+UNIT_GRAM : [gG] [rR] [aA] [mM] | [gG] | [gG] [rR] [aA] [mM] [sS] ;
+UNIT_KILOGRAM : [kK] [iI] [lL] [oO] [gG] [rR] [aA] [mM] | [kK] [gG] | [kK] [iI] [lL] [oO] [gG] [rR] [aA] [mM] [sS] ;
+UNIT_OUNCE : [oO] [uU] [nN] [cC] [eE] | [oO] [zZ] | [oO] [uU] [nN] [cC] [eE] [sS] ;
+UNIT_POUND : [pP] [oO] [uU] [nN] [dD] | [lL] [bB] | [lL] [bB] [sS] | [pP] [oO] [uU] [nN] [dD] [sS] ;
+
+// END UNITS
 
 WORD : (LOWERCASE | UPPERCASE | '_' | '-')+ ;
-WHITESPACE : (' ' | '\t') ;
+WHITESPACE : SPACE ;
 
-NUMBER : DIGIT+ ([.,] DIGIT+)? ;
-//RANGE : (DECIMAL | FRACTION) ('-' | WHITESPACE)+ (DECIMAL | FRACTION) ;
+// On a tie the earlier rule wins, so "1 1/2" is a fraction rather than a range of 1 to 1/2
+FRACTION : FRACTION_PART ;
+RANGE : (DECIMAL | FRACTION_PART) ('-' | SPACE)+ (DECIMAL | FRACTION_PART) ;
+NUMBER : DECIMAL ;
 
 COMMENT_START : [,(] ;
 
 NEWLINE : ('\r'? '\n' | '\r')+ ;
 
-//PARENTHETICAL : '(' ( PARENTHETICAL | ~[()]+ )* ')' ;
-
-ANY : . ;
\ No newline at end of file
+ANY : . ;
@@ -1,36 +1,54 @@
 package com.kronos.skilletapp.parser
 
 import com.kronos.skilletapp.model.Ingredient
-import com.kronos.skilletapp.parser.grammar.IngredientGrammarLexer
-import com.kronos.skilletapp.parser.grammar.IngredientGrammarParser
-import org.antlr.v4.runtime.CharStreams
-import org.antlr.v4.runtime.CommonTokenStream
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.withContext
 
 class IngredientParser {
+  // How often lines were scanned, parsed on the SLL fast path or fell back to full LL
+  val statistics = ParseStatistics()
 
-  fun parseIngredient(text: String): Ingredient = IngredientVisitor().visitIngredient(
-    IngredientGrammarParser(
-      CommonTokenStream(
-        IngredientGrammarLexer(
-          CharStreams.fromString(
-            "$text\n"
-          )
-        )
-      )
-    ).ingredient()
-  )
-
-  fun parseIngredients(text: String): List<Ingredient> = IngredientVisitor().visitIngredients(
-    IngredientGrammarParser(
-      CommonTokenStream(
-        IngredientGrammarLexer(
-          CharStreams.fromString(
-            "$text\n"
-          )
-        )
-      )
-    ).recipe()
-  )
+  // Shared by every thread, including the batch parser's workers
+  val cache = ParseCache()
+
+  // Recognizers are reset between parses and share one DFA cache, so each thread only ever builds one set
+  private val engines = ThreadLocal.withInitial { ParserEngine(statistics = statistics) }
+
+  // Lines seen before come from the cache, and lines the scanner recognizes skip the grammar entirely
+  fun parseIngredient(text: String): Ingredient = cache.getOrParse(text) {
+    IngredientScanner.scanIngredient(it)?.also { statistics.record(ParsePath.Scan, 1) }
+      ?: engines.get().parseIngredient(it)
+  }
+
+  fun parseIngredients(text: String): List<Ingredient> =
+    IngredientScanner.scanIngredients(text)?.also { statistics.record(ParsePath.Scan, it.size) }
+      ?: engines.get().parseIngredients(text)
+
+  /**
+   * Parses each line as its own ingredient on [Dispatchers.Default], keeping the order of [lines].
+   *
+   * Lines are split into one chunk per core and the chunks are parsed concurrently, each worker thread using its own
+   * engine. Small batches stay in a single chunk since they parse faster than they can be handed out.
+   */
+  suspend fun parseAll(lines: List<String>): List<Ingredient> = withContext(Dispatchers.Default) {
+    val chunkSize = maxOf(MIN_CHUNK_SIZE, (lines.size + parallelism - 1) / parallelism)
+
+    lines.chunked(chunkSize)
+      .map { chunk -> async { chunk.map { parseIngredient(it) } } }
+      .awaitAll()
+      .flatten()
+  }
+
+  // Every non-blank line of the text, for pasted ingredient lists
+  suspend fun parseAll(text: String): List<Ingredient> = parseAll(text.lines().filter { it.isNotBlank() })
+
+  companion object {
+    const val MIN_CHUNK_SIZE = 16
+
+    private val parallelism = Runtime.getRuntime().availableProcessors()
+  }
 }
 
 //TODO: investigate using Chaquopy to use ingredient-parser-nlp
@@ -0,0 +1,171 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.utils.Fraction
+import com.kronos.skilletapp.utils.removePunctuation
+
+/**
+ * Single pass scanner for the common "<quantity> <unit> <name>, <comment>" line, producing the same [Ingredient] the
+ * grammar would.
+ *
+ * It only accepts lines it can be sure the grammar parses without errors: plain numbers and fractions, names made of
+ * words and whitespace, and an optional comment. Anything else, ranges, numbers in the name or stray punctuation,
+ * returns null so the caller can fall back to [ParserEngine].
+ */
+object IngredientScanner {
+  // Keeps whole numbers well inside Int, so they never overflow where the grammar would have thrown
+  private const val MAX_DIGITS = 9
+
+  // First words of the unit names written with a space
+  private val phraseStarts = MeasurementUnit.values
+    .flatMap { listOf(it.name, it.abbreviation) + it.aliases }
+    .filter { ' ' in it }
+    .map { it.substringBefore(' ') }
+    .distinct()
+
+  fun scanIngredient(text: CharSequence): Ingredient? = scanLine(text, 0, lineEnd(text, 0))
+
+  fun scanIngredients(text: CharSequence): List<Ingredient>? {
+    // A recipe can't start with a blank line, the grammar reports it as an error
+    if (text.isEmpty() || isNewline(text[0])) return null
+
+    val ingredients = mutableListOf<Ingredient>()
+    var start = 0
+    while (start < text.length) {
+      val end = lineEnd(text, start)
+      ingredients += scanLine(text, start, end) ?: return null
+
+      // Consecutive newlines are one token, so blank lines don't produce ingredients
+      start = end
+      while (start < text.length && text[start] == '\n') start++
+    }
+    return ingredients
+  }
+
+  private fun scanLine(text: CharSequence, start: Int, end: Int): Ingredient? {
+    if (start == end) return null
+
+    var i = start
+    var quantity = 0f
+    var hasQuantity = false
+
+    if (isDigit(text[i])) {
+      val first = digitsEnd(text, i)
+      if (first - i > MAX_DIGITS) return null
+
+      i = when {
+        first < end && text[first] == '/' -> fractionEnd(text, first + 1)?.also {
+          quantity = Fraction(numerator = intOf(text, start, first), denominator = intOf(text, first + 1, it)).decimal
+        }
+
+        first < end && text[first] == '.' -> digitsEnd(text, first + 1).takeIf { it > first + 1 }?.also {
+          quantity = text.substring(start, it).toFloat()
+        }
+
+        // A whole number followed by a fraction, "1 1/2"
+        first + 1 < end && isSpace(text[first]) && isDigit(text[first + 1]) -> {
+          val numerator = digitsEnd(text, first + 1)
+          if (numerator - first - 1 > MAX_DIGITS || numerator >= end || text[numerator] != '/') return null
+          fractionEnd(text, numerator + 1)?.also {
+            quantity = Fraction(
+              whole = intOf(text, start, first),
+              numerator = intOf(text, first + 1, numerator),
+              denominator = intOf(text, numerator + 1, it)
+            ).decimal
+          }
+        }
+
+        else -> first.also { quantity = intOf(text, start, first).toFloat() }
+      } ?: return null
+
+      // Exactly one space before the name, which has to start with a letter so the quantity can't run on into a range
+      if (i + 1 >= end || !isSpace(text[i]) || !isWordChar(text[i + 1])) return null
+      i++
+      hasQuantity = true
+    }
+
+    val nameStart = i
+    while (i < end && (isWordChar(text[i]) || isSpace(text[i]))) i++
+    val nameEnd = i
+    if (nameEnd == nameStart) return null
+
+    val comment = when {
+      i == end -> null
+      text[i] == ',' || text[i] == '(' -> if (i + 1 == end) return null else text.substring(i, end).removePunctuation().trim()
+      else -> return null
+    }
+
+    // After a quantity, the first word is the unit as long as the name still has a word after it
+    val wordEnd = wordEnd(text, nameStart, nameEnd)
+    val hasUnit = hasQuantity &&
+      wordEnd > nameStart &&
+      wordEnd < nameEnd &&
+      isSpace(text[wordEnd]) &&
+      (wordEnd + 1..<nameEnd).any { isWordChar(text[it]) }
+
+    // The lexer reads a unit like "fl oz" as one token, leave those to the grammar rather than splitting them
+    if (hasUnit && phraseStarts.any { matchesIgnoringCase(text, nameStart, wordEnd, it) }) return null
+
+    val unit = if (hasUnit) MeasurementUnit.fromName(text, nameStart, wordEnd) else MeasurementUnit.None
+    val name = text.substring(if (hasUnit) wordEnd + 1 else nameStart, nameEnd)
+
+    return Ingredient(
+      name = name,
+      comment = comment,
+      measurement = Measurement(quantity, unit),
+      raw = text.substring(start, end).trimEnd()
+    )
+  }
+
+  // The denominator of a fraction, which can't be followed by anything that would make it part of a longer token
+  private fun fractionEnd(text: CharSequence, start: Int): Int? {
+    val end = digitsEnd(text, start)
+    return end.takeIf { it > start && it - start <= MAX_DIGITS && (it == text.length || text[it] !in "./") }
+  }
+
+  private fun lineEnd(text: CharSequence, start: Int): Int {
+    var i = start
+    while (i < text.length && text[i] != '\n') {
+      // A lone carriage return ends a line too, leave those to the grammar
+      if (text[i] == '\r') return start
+      i++
+    }
+    return i
+  }
+
+  private fun digitsEnd(text: CharSequence, start: Int): Int {
+    var i = start
+    while (i < text.length && isDigit(text[i])) i++
+    return i
+  }
+
+  private fun wordEnd(text: CharSequence, start: Int, end: Int): Int {
+    var i = start
+    while (i < end && isWordChar(text[i])) i++
+    return i
+  }
+
+  private fun intOf(text: CharSequence, start: Int, end: Int): Int {
+    var value = 0
+    for (i in start..<end) value = value * 10 + (text[i] - '0')
+    return value
+  }
+
+  private fun matchesIgnoringCase(text: CharSequence, start: Int, end: Int, word: String): Boolean {
+    if (end - start != word.length) return false
+    for (i in word.indices) {
+      if (!text[start + i].equals(word[i], ignoreCase = true)) return false
+    }
+    return true
+  }
+
+  private fun isDigit(c: Char) = c in '0'..'9'
+
+  private fun isSpace(c: Char) = c == ' ' || c == '\t'
+
+  private fun isNewline(c: Char) = c == '\n' || c == '\r'
+
+  private fun isWordChar(c: Char) = c in 'a'..'z' || c in 'A'..'Z' || c == '_' || c == '-'
+}
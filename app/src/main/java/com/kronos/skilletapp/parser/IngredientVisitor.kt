@@ -7,20 +7,37 @@ import com.kronos.skilletapp.parser.grammar.IngredientGrammarBaseVisitor
 import com.kronos.skilletapp.parser.grammar.IngredientGrammarParser
 import com.kronos.skilletapp.utils.Fraction
 import com.kronos.skilletapp.utils.removePunctuation
+import org.antlr.v4.runtime.Token
+import org.antlr.v4.runtime.misc.Interval
+import org.antlr.v4.runtime.tree.TerminalNode
 
 class IngredientVisitor : IngredientGrammarBaseVisitor<Ingredient>() {
   fun visitIngredients(ctx: IngredientGrammarParser.RecipeContext) = ctx.ingredient().map { visitIngredient(it) }
 
   override fun visitIngredient(ctx: IngredientGrammarParser.IngredientContext): Ingredient {
-    val name = ctx.name()?.text ?: ""
-
-    val unit = MeasurementUnit.fromName(ctx.measurement()?.WORD()?.text)
-    val quantity = with(ctx.measurement()?.quantity()) {
-      this?.decimal()?.text?.toFloatOrNull() ?: this?.fraction()?.let {
-        when (it.NUMBER().size) {
-          2 -> Fraction(numerator = it.NUMBER(0).text.toInt(), denominator = it.NUMBER(1).text.toInt())
-          else -> Fraction(whole = it.NUMBER(0).text.toInt(), numerator = it.NUMBER(1).text.toInt(), denominator = it.NUMBER(2).text.toInt())
-        }.decimal
+    val tokens = ctx.name()?.children?.mapNotNull {
+      when (it) {
+        is TerminalNode -> it.symbol
+        is IngredientGrammarParser.UnitContext -> it.start
+        else -> null
+      }
+    }.orEmpty()
+
+    // After a quantity, the first word is the unit as long as the name still has a word after it
+    val hasUnit = ctx.quantity() != null &&
+      tokens.size > 2 &&
+      isWord(tokens[0]) &&
+      tokens[1].type == IngredientGrammarParser.WHITESPACE &&
+      tokens.subList(2, tokens.size).any { isWord(it) }
+
+    val name = if (hasUnit) textOf(tokens.subList(2, tokens.size)) else ctx.name()?.text ?: ""
+    val unit = if (hasUnit) unitOf(tokens[0]) else MeasurementUnit.None
+
+    val quantity = ctx.quantity()?.let {
+      when {
+        it.NUMBER() != null -> it.text.toFloatOrNull()
+        it.FRACTION() != null -> fractionOf(it.text).decimal
+        else -> null // ranges have never carried a quantity
       }
     } ?: 0f
     val measurement = Measurement(quantity, unit)
@@ -29,4 +46,21 @@ class IngredientVisitor : IngredientGrammarBaseVisitor<Ingredient>() {
 
     return Ingredient(name = name, comment = comment, measurement = measurement, raw = ctx.text.trimEnd())
   }
-}
\ No newline at end of file
+
+  // The tokens are contiguous, so their text is one slice of the input
+  private fun textOf(tokens: List<Token>): String =
+    tokens.first().inputStream.getText(Interval.of(tokens.first().startIndex, tokens.last().stopIndex))
+
+  private fun fractionOf(text: String): Fraction {
+    val numbers = text.split('/', ' ', '\t').filter { it.isNotEmpty() }.map { it.toInt() }
+    return when (numbers.size) {
+      2 -> Fraction(numerator = numbers[0], denominator = numbers[1])
+      else -> Fraction(whole = numbers[0], numerator = numbers[1], denominator = numbers[2])
+    }
+  }
+
+  private fun isWord(token: Token) = token.type == IngredientGrammarParser.WORD || UnitTokens.isUnit(token.type)
+
+  // The lexer already recognized every known unit, any other word is a custom unit
+  private fun unitOf(token: Token): MeasurementUnit = UnitTokens.unitOf(token.type) ?: MeasurementUnit.Custom(token.text)
+}
@@ -0,0 +1,76 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.Ingredient
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Parsed ingredients by the text they were parsed from, so lines that come up again skip parsing altogether.
+ *
+ * The cache is an LRU bounded by the characters it holds rather than its entry count, since a pasted paragraph costs
+ * far more than "1 tsp salt". Every hit is a new [Ingredient] with its own id. The parse itself runs outside the lock,
+ * so a cache shared by the batch parser's workers never serializes them.
+ */
+class ParseCache(val maxChars: Int = MAX_CHARS) {
+  private val entries = LinkedHashMap<String, Ingredient>(64, 0.75f, true)
+  private var chars = 0
+
+  private val hitCount = AtomicLong()
+  private val missCount = AtomicLong()
+
+  val hits: Long
+    get() = hitCount.get()
+
+  val misses: Long
+    get() = missCount.get()
+
+  val size: Int
+    get() = synchronized(entries) { entries.size }
+
+  // Characters held by the keys and parsed text of every entry
+  val weight: Int
+    get() = synchronized(entries) { chars }
+
+  fun getOrParse(text: String, parse: (String) -> Ingredient): Ingredient {
+    val key = keyOf(text)
+
+    synchronized(entries) { entries[key] }?.let {
+      hitCount.incrementAndGet()
+      return Ingredient(name = it.name, measurement = it.measurement, raw = it.raw, comment = it.comment)
+    }
+
+    missCount.incrementAndGet()
+    return parse(text).also { put(key, it) }
+  }
+
+  fun clear() = synchronized(entries) {
+    entries.clear()
+    chars = 0
+  }
+
+  private fun put(key: String, ingredient: Ingredient) {
+    val weight = weightOf(key, ingredient)
+    if (weight > maxChars) return
+
+    synchronized(entries) {
+      entries.put(key, ingredient)?.let { chars -= weightOf(key, it) }
+      chars += weight
+
+      val eldest = entries.entries.iterator()
+      while (chars > maxChars && eldest.hasNext()) {
+        val (evictedKey, evicted) = eldest.next()
+        chars -= weightOf(evictedKey, evicted)
+        eldest.remove()
+      }
+    }
+  }
+
+  companion object {
+    const val MAX_CHARS = 64 * 1024
+
+    // Trailing line breaks lex to the same single NEWLINE token the parser appends, so they can't change the result
+    fun keyOf(text: String): String = text.trimEnd('\n', '\r')
+
+    private fun weightOf(key: String, ingredient: Ingredient) =
+      key.length + ingredient.name.length + ingredient.raw.length + (ingredient.comment?.length ?: 0)
+  }
+}
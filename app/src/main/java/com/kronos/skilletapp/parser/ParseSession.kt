@@ -0,0 +1,62 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.Ingredient
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+
+/**
+ * Parses a block of ingredient lines that is edited over time, one ingredient per non-blank line.
+ *
+ * Each update compares the new lines against the last ones and only parses the lines between the unchanged prefix and
+ * suffix, so typing into a long block costs about one line per keystroke. Unchanged lines keep their [Ingredient],
+ * including its id.
+ */
+class ParseSession(private val parser: IngredientParser) {
+  private val mutex = Mutex()
+
+  private var lines: List<String> = emptyList()
+  private var parsed: List<Ingredient?> = emptyList()
+
+  @Volatile
+  var ingredients: List<Ingredient> = emptyList()
+    private set
+
+  // Lines parsed by the last update
+  var reparsedLines = 0
+    private set
+
+  /**
+   * Brings the session up to date with [text] and returns its ingredients.
+   *
+   * The new state is only kept once every changed line is parsed, so an update that's cancelled by the next keystroke
+   * leaves the session as it was.
+   */
+  suspend fun update(text: String): List<Ingredient> = mutex.withLock {
+    val newLines = text.lines()
+
+    val limit = minOf(lines.size, newLines.size)
+    var prefix = 0
+    while (prefix < limit && lines[prefix] == newLines[prefix]) prefix++
+    var suffix = 0
+    while (suffix < limit - prefix && lines[lines.size - 1 - suffix] == newLines[newLines.size - 1 - suffix]) suffix++
+
+    val changed = newLines.subList(prefix, newLines.size - suffix)
+    val results = parser.parseAll(changed.filter { it.isNotBlank() }).iterator()
+
+    parsed = parsed.subList(0, prefix) +
+      changed.map { if (it.isBlank()) null else results.next() } +
+      parsed.subList(parsed.size - suffix, parsed.size)
+    lines = newLines
+    reparsedLines = changed.count { it.isNotBlank() }
+    ingredients = parsed.filterNotNull()
+
+    ingredients
+  }
+
+  suspend fun clear() = mutex.withLock {
+    lines = emptyList()
+    parsed = emptyList()
+    ingredients = emptyList()
+    reparsedLines = 0
+  }
+}
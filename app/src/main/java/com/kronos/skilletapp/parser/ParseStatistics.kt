@@ -0,0 +1,55 @@
+package com.kronos.skilletapp.parser
+
+import java.util.concurrent.atomic.AtomicLong
+
+enum class ParsePath {
+  Scan,
+  Sll,
+  Ll,
+}
+
+// Lines parsed by each path, safe to share between engines on different threads
+class ParseStatistics {
+  private val scanned = AtomicLong()
+  private val sll = AtomicLong()
+  private val ll = AtomicLong()
+  private val errors = AtomicLong()
+
+  // Lines IngredientScanner handled without reaching the grammar
+  val scannedLines: Long
+    get() = scanned.get()
+
+  val sllLines: Long
+    get() = sll.get()
+
+  val llLines: Long
+    get() = ll.get()
+
+  // Lines that still had syntax errors after the LL pass recovered from them
+  val errorLines: Long
+    get() = errors.get()
+
+  val totalLines: Long
+    get() = scannedLines + sllLines + llLines
+
+  val sllRatio: Double
+    get() = if (totalLines == 0L) 0.0 else sllLines.toDouble() / totalLines
+
+  fun record(path: ParsePath, lines: Int, hasErrors: Boolean = false) {
+    when (path) {
+      ParsePath.Scan -> scanned.addAndGet(lines.toLong())
+      ParsePath.Sll -> sll.addAndGet(lines.toLong())
+      ParsePath.Ll -> ll.addAndGet(lines.toLong())
+    }
+    if (hasErrors) errors.addAndGet(lines.toLong())
+  }
+
+  fun reset() {
+    scanned.set(0)
+    sll.set(0)
+    ll.set(0)
+    errors.set(0)
+  }
+
+  override fun toString(): String = "$totalLines lines: $scannedLines scanned, $sllLines SLL, $llLines LL ($errorLines with errors), ${"%.1f".format(sllRatio * 100)}% on the SLL path"
+}
@@ -0,0 +1,106 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarLexer
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarParser
+import org.antlr.v4.runtime.*
+import org.antlr.v4.runtime.atn.LexerATNSimulator
+import org.antlr.v4.runtime.atn.ParserATNSimulator
+import org.antlr.v4.runtime.atn.PredictionMode
+import org.antlr.v4.runtime.misc.ParseCancellationException
+
+enum class ParseMode {
+  // SLL prediction that bails on the first syntax error, then full LL with error recovery only for the lines that failed
+  TwoStage,
+
+  // Full LL prediction with error recovery reported to the console, the way the generated parser runs by default
+  Ll,
+}
+
+/**
+ * A lexer, parser and visitor that are reset for every parse instead of being rebuilt.
+ *
+ * Engines hold mutable recognizer state and aren't thread safe, [IngredientParser] keeps one per thread.
+ */
+class ParserEngine(
+  val cache: GrammarCache = GrammarCache.shared,
+  val mode: ParseMode = ParseMode.TwoStage,
+  val statistics: ParseStatistics = ParseStatistics(),
+) {
+  private val input = SourceCharStream()
+  private val lexer = IngredientGrammarLexer(input)
+  private val tokens = CommonTokenStream(lexer)
+  private val parser = IngredientGrammarParser(tokens)
+  private val visitor = IngredientVisitor()
+
+  private val bail = BailErrorStrategy()
+  private val recover = DefaultErrorStrategy()
+  private val errors = SyntaxErrorCollector()
+
+  // Syntax errors from the last parse, only ever collected on the LL path
+  val lastErrors: List<String>
+    get() = errors.messages
+
+  init {
+    lexer.interpreter = LexerATNSimulator(lexer, lexer.atn, cache.lexerDfa, cache.lexerContextCache)
+    parser.interpreter = ParserATNSimulator(parser, parser.atn, cache.parserDfa, cache.parserContextCache)
+
+    if (mode == ParseMode.TwoStage) {
+      lexer.removeErrorListeners()
+      parser.removeErrorListeners()
+      parser.addErrorListener(errors)
+    }
+  }
+
+  fun parseIngredient(text: CharSequence): Ingredient =
+    visitor.visitIngredient(parse(text, IngredientGrammarParser::ingredient) { 1 })
+
+  fun parseIngredients(text: CharSequence): List<Ingredient> =
+    visitor.visitIngredients(parse(text, IngredientGrammarParser::recipe) { it.ingredient().size })
+
+  private inline fun <T : ParserRuleContext> parse(text: CharSequence, rule: (IngredientGrammarParser) -> T, lines: (T) -> Int): T {
+    reset(text)
+    errors.clear()
+
+    if (mode == ParseMode.Ll) return rule(parser).also { statistics.record(ParsePath.Ll, lines(it), parser.numberOfSyntaxErrors > 0) }
+
+    parser.interpreter.predictionMode = PredictionMode.SLL
+    parser.errorHandler = bail
+
+    try {
+      return rule(parser).also { statistics.record(ParsePath.Sll, lines(it)) }
+    } catch (e: ParseCancellationException) {
+      // The tokens are already lexed, so only the parser has to rewind
+      parser.reset()
+      errors.clear()
+      parser.interpreter.predictionMode = PredictionMode.LL
+      parser.errorHandler = recover
+
+      return rule(parser).also { statistics.record(ParsePath.Ll, lines(it), parser.numberOfSyntaxErrors > 0) }
+    }
+  }
+
+  private fun reset(text: CharSequence) {
+    input.reset(text)
+    lexer.setInputStream(input)
+    tokens.tokenSource = lexer
+    parser.tokenStream = tokens
+  }
+
+  private class SyntaxErrorCollector : BaseErrorListener() {
+    val messages = mutableListOf<String>()
+
+    fun clear() = messages.clear()
+
+    override fun syntaxError(
+      recognizer: Recognizer<*, *>?,
+      offendingSymbol: Any?,
+      line: Int,
+      charPositionInLine: Int,
+      msg: String?,
+      e: RecognitionException?
+    ) {
+      messages += "$line:$charPositionInLine $msg"
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import kotlin.time.Duration
+import kotlin.time.measureTime
+
+/**
+ * Loads the grammar and primes a [GrammarCache] ahead of the first real parse.
+ *
+ * Loading the recognizer classes deserializes their ATNs, and the first parses then build the DFA from nothing, which
+ * together make the first paste or import noticeably slow. Running a few representative lines through the grammar on a
+ * background thread moves that cost to app start.
+ */
+object ParserWarmup {
+  // One or two of every shape the grammar has a decision for, including lines that fail SLL and take the LL path
+  val lines = listOf(
+    "1 cup butter",
+    "2 cups all-purpose flour, sifted",
+    "1.5 tsp kosher salt",
+    "0.25 cup heavy cream (cold)",
+    "1/2 tsp baking soda",
+    "3/4 cup brown sugar, packed",
+    "1 1/2 cups milk",
+    "2 3/4 oz dark chocolate, chopped",
+    "1-2 tbsp olive oil",
+    "2 to 3 cloves garlic, minced",
+    "1/2-1 tsp red pepper flakes",
+    "3 eggs",
+    "1 onion, thinly sliced",
+    "2 fl oz lemon juice",
+    "1 cup",
+    "salt and pepper to taste",
+    "fresh basil leaves (optional)",
+    "For the sauce:",
+    "** see notes",
+    "½ cup sugar",
+    "2 × 3 inch pieces",
+    "1,5 dl water",
+  )
+
+  /**
+   * Parses every warm-up line with the grammar, skipping the scanner and the parse cache, and returns how long it took.
+   */
+  fun prime(cache: GrammarCache = GrammarCache.shared): Duration = measureTime {
+    // Builds the unit name index the visitor and scanner look units up in
+    MeasurementUnit.fromName("cup")
+
+    val engine = ParserEngine(cache = cache, statistics = ParseStatistics())
+    lines.forEach { engine.parseIngredient(it) }
+    engine.parseIngredients(lines.joinToString("\n"))
+  }
+}
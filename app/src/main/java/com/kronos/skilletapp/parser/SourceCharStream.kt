@@ -0,0 +1,68 @@
+package com.kronos.skilletapp.parser
+
+import org.antlr.v4.runtime.CharStream
+import org.antlr.v4.runtime.IntStream
+import org.antlr.v4.runtime.misc.Interval
+
+/**
+ * A [CharStream] that reads a [CharSequence] in place instead of copying it into a code point buffer the way
+ * [org.antlr.v4.runtime.CharStreams.fromString] does, with the newline every ingredient has to end in appended past the end.
+ *
+ * Indices are UTF-16 indices into [source], so a surrogate pair reaches the lexer as two chars. The grammar only ever matches
+ * those with ANY, so the parse is the same, and tokens can be sliced straight out of [source].
+ */
+class SourceCharStream(source: CharSequence = "") : CharStream {
+  var source: CharSequence = source
+    private set
+
+  private var index = 0
+
+  fun reset(source: CharSequence) {
+    this.source = source
+    index = 0
+  }
+
+  override fun consume() {
+    check(index < size()) { "cannot consume EOF" }
+    index++
+  }
+
+  override fun LA(i: Int): Int {
+    val position = when {
+      i == 0 -> return 0
+      i < 0 -> index + i
+      else -> index + i - 1
+    }
+
+    return when {
+      position < 0 || position >= size() -> IntStream.EOF
+      position == source.length -> '\n'.code
+      else -> source[position].code
+    }
+  }
+
+  override fun mark(): Int = -1
+
+  override fun release(marker: Int) {}
+
+  override fun index(): Int = index
+
+  override fun seek(index: Int) {
+    this.index = index.coerceIn(0, size())
+  }
+
+  override fun size(): Int = source.length + 1
+
+  override fun getSourceName(): String = IntStream.UNKNOWN_SOURCE_NAME
+
+  override fun getText(interval: Interval): String {
+    val start = interval.a.coerceAtLeast(0)
+    val stop = minOf(interval.b, size() - 1)
+    if (stop < start) return ""
+
+    val text = source.subSequence(minOf(start, source.length), minOf(stop + 1, source.length)).toString()
+    return if (stop == source.length) "$text\n" else text
+  }
+
+  override fun toString(): String = getText(Interval.of(0, size() - 1))
+}
@@ -0,0 +1,54 @@
+package com.kronos.skilletapp.parser
+
+import com.kronos.skilletapp.model.measurement.ConversionTable
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.model.measurement.UnitNameIndex
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarLexer
+
+/**
+ * The unit keywords in the ingredient grammar, one token type per known unit, so the visitor resolves a unit from the
+ * token type alone.
+ *
+ * The keyword rules between the UNITS markers in IngredientGrammar.g4 are generated by [grammarRules] from the same keys
+ * as [UnitNameIndex]: every key as written, plus the keys that are unambiguous once case is ignored. ParserTests fails
+ * when the grammar falls out of date with the units, paste the new rules in and regenerate the recognizers.
+ */
+object UnitTokens {
+  private val units: Array<MeasurementUnit?> by lazy {
+    val byTokenName = ConversionTable.units.associateBy { tokenName(it) }
+    val vocabulary = IngredientGrammarLexer.VOCABULARY
+    Array(vocabulary.maxTokenType + 1) { vocabulary.getSymbolicName(it)?.let(byTokenName::get) }
+  }
+
+  // The unit a token type stands for, or null for every other token
+  fun unitOf(type: Int): MeasurementUnit? = if (type in units.indices) units[type] else null
+
+  fun isUnit(type: Int) = unitOf(type) != null
+
+  fun tokenName(unit: MeasurementUnit) = "UNIT_" + unit.name.uppercase().replace(' ', '_')
+
+  fun grammarRules(index: UnitNameIndex = UnitNameIndex(MeasurementUnit.values)): String {
+    val exact = index.exactKeys.entries.groupBy({ it.value }, { it.key })
+    val folded = index.caseInsensitiveKeys.entries.groupBy({ it.value }, { it.key })
+
+    val lexerRules = ConversionTable.units.joinToString("\n") { unit ->
+      val foldedKeys = folded[unit].orEmpty()
+      val exactKeys = exact[unit].orEmpty().filter { it.lowercase() !in foldedKeys }
+      val alternatives = foldedKeys.map { it to caseInsensitive(it) } + exactKeys.map { it to "'$it'" }
+
+      "${tokenName(unit)} : " + alternatives.joinToString(" | ") { (key, literal) ->
+        // Keys with a space would otherwise match the start of a longer phrase, like "fl oz" in "fl ozone"
+        if (' ' in key) "$literal {!isWordChar(_input.LA(1))}?" else literal
+      } + " ;"
+    }
+
+    return "unit : ${ConversionTable.units.joinToString(" | ") { tokenName(it) }} ;\n\n$lexerRules"
+  }
+
+  private fun caseInsensitive(key: String) = key.map { c ->
+    when {
+      c.isLetter() -> "[${c.lowercaseChar()}${c.uppercaseChar()}]"
+      else -> "'$c'"
+    }
+  }.joinToString(" ")
+}
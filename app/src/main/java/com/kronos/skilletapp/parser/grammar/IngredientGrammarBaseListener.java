@@ -36,18 +36,6 @@ public class IngredientGrammarBaseListener implements IngredientGrammarListener
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitIngredient(IngredientGrammarParser.IngredientContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterMeasurement(IngredientGrammarParser.MeasurementContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitMeasurement(IngredientGrammarParser.MeasurementContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -65,61 +53,37 @@ public class IngredientGrammarBaseListener implements IngredientGrammarListener
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterDecimal(IngredientGrammarParser.DecimalContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitDecimal(IngredientGrammarParser.DecimalContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterFraction(IngredientGrammarParser.FractionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitFraction(IngredientGrammarParser.FractionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterRange(IngredientGrammarParser.RangeContext ctx) { }
+	@Override public void enterName(IngredientGrammarParser.NameContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitRange(IngredientGrammarParser.RangeContext ctx) { }
+	@Override public void exitName(IngredientGrammarParser.NameContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterName(IngredientGrammarParser.NameContext ctx) { }
+	@Override public void enterComment(IngredientGrammarParser.CommentContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitName(IngredientGrammarParser.NameContext ctx) { }
+	@Override public void exitComment(IngredientGrammarParser.CommentContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterComment(IngredientGrammarParser.CommentContext ctx) { }
+	@Override public void enterUnit(IngredientGrammarParser.UnitContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitComment(IngredientGrammarParser.CommentContext ctx) { }
+	@Override public void exitUnit(IngredientGrammarParser.UnitContext ctx) { }
 
 	/**
 	 * {@inheritDoc}
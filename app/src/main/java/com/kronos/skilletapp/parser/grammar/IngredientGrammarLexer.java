@@ -17,8 +17,11 @@ public class IngredientGrammarLexer extends Lexer {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__0=1, T__1=2, WORD=3, WHITESPACE=4, NUMBER=5, COMMENT_START=6, NEWLINE=7, 
-		ANY=8;
+		UNIT_MILLILITER=1, UNIT_LITER=2, UNIT_PINCH=3, UNIT_DASH=4, UNIT_TEASPOON=5, 
+		UNIT_TABLESPOON=6, UNIT_CUP=7, UNIT_PINT=8, UNIT_QUART=9, UNIT_GALLON=10, 
+		UNIT_FLUID_OUNCE=11, UNIT_GRAM=12, UNIT_KILOGRAM=13, UNIT_OUNCE=14, UNIT_POUND=15, 
+		WORD=16, WHITESPACE=17, FRACTION=18, RANGE=19, NUMBER=20, COMMENT_START=21, 
+		NEWLINE=22, ANY=23;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -29,22 +32,28 @@ public class IngredientGrammarLexer extends Lexer {
 
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"T__0", "T__1", "LOWERCASE", "UPPERCASE", "DIGIT", "WORD", "WHITESPACE", 
-			"NUMBER", "COMMENT_START", "NEWLINE", "ANY"
+			"LOWERCASE", "UPPERCASE", "DIGIT", "INTEGER", "DECIMAL", "SPACE", "FRACTION_PART", 
+			"UNIT_MILLILITER", "UNIT_LITER", "UNIT_PINCH", "UNIT_DASH", "UNIT_TEASPOON", 
+			"UNIT_TABLESPOON", "UNIT_CUP", "UNIT_PINT", "UNIT_QUART", "UNIT_GALLON", 
+			"UNIT_FLUID_OUNCE", "UNIT_GRAM", "UNIT_KILOGRAM", "UNIT_OUNCE", "UNIT_POUND", 
+			"WORD", "WHITESPACE", "FRACTION", "RANGE", "NUMBER", "COMMENT_START", 
+			"NEWLINE", "ANY"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'/'", "'-'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-			null, null, null, "WORD", "WHITESPACE", "NUMBER", "COMMENT_START", "NEWLINE", 
-			"ANY"
+			null, "UNIT_MILLILITER", "UNIT_LITER", "UNIT_PINCH", "UNIT_DASH", "UNIT_TEASPOON", 
+			"UNIT_TABLESPOON", "UNIT_CUP", "UNIT_PINT", "UNIT_QUART", "UNIT_GALLON", 
+			"UNIT_FLUID_OUNCE", "UNIT_GRAM", "UNIT_KILOGRAM", "UNIT_OUNCE", "UNIT_POUND", 
+			"WORD", "WHITESPACE", "FRACTION", "RANGE", "NUMBER", "COMMENT_START", 
+			"NEWLINE", "ANY"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -82,6 +91,11 @@ public class IngredientGrammarLexer extends Lexer {
 	}
 
 
+	  private static boolean isWordChar(int c) {
+	    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '-';
+	  }
+
+
 	public IngredientGrammarLexer(CharStream input) {
 		super(input);
 		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
@@ -105,51 +119,281 @@ public class IngredientGrammarLexer extends Lexer {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+	@Override
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 17:
+			return UNIT_FLUID_OUNCE_sempred((RuleContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean UNIT_FLUID_OUNCE_sempred(RuleContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return !isWordChar(_input.LA(1));
+		case 1:
+			return !isWordChar(_input.LA(1));
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\u0004\u0000\bD\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
-		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
-		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
-		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0001\u0000"+
-		"\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003"+
-		"\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0004\u0005%\b\u0005\u000b\u0005\f\u0005&\u0001\u0006\u0001\u0006\u0001"+
-		"\u0007\u0004\u0007,\b\u0007\u000b\u0007\f\u0007-\u0001\u0007\u0001\u0007"+
-		"\u0004\u00072\b\u0007\u000b\u0007\f\u00073\u0003\u00076\b\u0007\u0001"+
-		"\b\u0001\b\u0001\t\u0003\t;\b\t\u0001\t\u0001\t\u0004\t?\b\t\u000b\t\f"+
-		"\t@\u0001\n\u0001\n\u0000\u0000\u000b\u0001\u0001\u0003\u0002\u0005\u0000"+
-		"\u0007\u0000\t\u0000\u000b\u0003\r\u0004\u000f\u0005\u0011\u0006\u0013"+
-		"\u0007\u0015\b\u0001\u0000\u0007\u0001\u0000az\u0001\u0000AZ\u0001\u0000"+
-		"09\u0002\u0000--__\u0002\u0000\t\t  \u0002\u0000,,..\u0002\u0000((,,I"+
-		"\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000"+
-		"\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000"+
-		"\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000"+
-		"\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0001"+
-		"\u0017\u0001\u0000\u0000\u0000\u0003\u0019\u0001\u0000\u0000\u0000\u0005"+
-		"\u001b\u0001\u0000\u0000\u0000\u0007\u001d\u0001\u0000\u0000\u0000\t\u001f"+
-		"\u0001\u0000\u0000\u0000\u000b$\u0001\u0000\u0000\u0000\r(\u0001\u0000"+
-		"\u0000\u0000\u000f+\u0001\u0000\u0000\u0000\u00117\u0001\u0000\u0000\u0000"+
-		"\u0013>\u0001\u0000\u0000\u0000\u0015B\u0001\u0000\u0000\u0000\u0017\u0018"+
-		"\u0005/\u0000\u0000\u0018\u0002\u0001\u0000\u0000\u0000\u0019\u001a\u0005"+
-		"-\u0000\u0000\u001a\u0004\u0001\u0000\u0000\u0000\u001b\u001c\u0007\u0000"+
-		"\u0000\u0000\u001c\u0006\u0001\u0000\u0000\u0000\u001d\u001e\u0007\u0001"+
-		"\u0000\u0000\u001e\b\u0001\u0000\u0000\u0000\u001f \u0007\u0002\u0000"+
-		"\u0000 \n\u0001\u0000\u0000\u0000!%\u0003\u0005\u0002\u0000\"%\u0003\u0007"+
-		"\u0003\u0000#%\u0007\u0003\u0000\u0000$!\u0001\u0000\u0000\u0000$\"\u0001"+
-		"\u0000\u0000\u0000$#\u0001\u0000\u0000\u0000%&\u0001\u0000\u0000\u0000"+
-		"&$\u0001\u0000\u0000\u0000&\'\u0001\u0000\u0000\u0000\'\f\u0001\u0000"+
-		"\u0000\u0000()\u0007\u0004\u0000\u0000)\u000e\u0001\u0000\u0000\u0000"+
-		"*,\u0003\t\u0004\u0000+*\u0001\u0000\u0000\u0000,-\u0001\u0000\u0000\u0000"+
-		"-+\u0001\u0000\u0000\u0000-.\u0001\u0000\u0000\u0000.5\u0001\u0000\u0000"+
-		"\u0000/1\u0007\u0005\u0000\u000002\u0003\t\u0004\u000010\u0001\u0000\u0000"+
-		"\u000023\u0001\u0000\u0000\u000031\u0001\u0000\u0000\u000034\u0001\u0000"+
-		"\u0000\u000046\u0001\u0000\u0000\u00005/\u0001\u0000\u0000\u000056\u0001"+
-		"\u0000\u0000\u00006\u0010\u0001\u0000\u0000\u000078\u0007\u0006\u0000"+
-		"\u00008\u0012\u0001\u0000\u0000\u00009;\u0005\r\u0000\u0000:9\u0001\u0000"+
-		"\u0000\u0000:;\u0001\u0000\u0000\u0000;<\u0001\u0000\u0000\u0000<?\u0005"+
-		"\n\u0000\u0000=?\u0005\r\u0000\u0000>:\u0001\u0000\u0000\u0000>=\u0001"+
-		"\u0000\u0000\u0000?@\u0001\u0000\u0000\u0000@>\u0001\u0000\u0000\u0000"+
-		"@A\u0001\u0000\u0000\u0000A\u0014\u0001\u0000\u0000\u0000BC\t\u0000\u0000"+
-		"\u0000C\u0016\u0001\u0000\u0000\u0000\t\u0000$&-35:>@\u0000";
+		"\u0004\u0000\u0017\u0172\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
+		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
+		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
+		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
+		"\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e"+
+		"\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011"+
+		"\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014"+
+		"\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017"+
+		"\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a"+
+		"\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d"+
+		"\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002"+
+		"\u0001\u0003\u0004\u0003E\b\u0003\u000b\u0003\f\u0003F\u0001\u0004\u0004"+
+		"\u0004J\b\u0004\u000b\u0004\f\u0004K\u0001\u0004\u0001\u0004\u0004\u0004"+
+		"P\b\u0004\u000b\u0004\f\u0004Q\u0003\u0004T\b\u0004\u0001\u0005\u0001"+
+		"\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006[\b\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0004\u0006`\b\u0006\u000b\u0006\f\u0006"+
+		"a\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0003\u0007r\b\u0007\u0001\b\u0001\b\u0001\b"+
+		"\u0001\b\u0001\b\u0001\b\u0003\bz\b\b\u0001\t\u0001\t\u0001\t\u0001\t"+
+		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0003\u000b\u009c\b\u000b\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003\f\u00bb"+
+		"\b\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003"+
+		"\r\u00c5\b\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e"+
+		"\u0003\u000e\u00d2\b\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0003\u000f\u00e1\b\u000f\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0003\u0010\u00f3\b\u0010\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0003\u0011"+
+		"\u0107\b\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012"+
+		"\u0113\b\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0003\u0013\u0128\b\u0013\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014"+
+		"\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0003\u0014"+
+		"\u0137\b\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015"+
+		"\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003\u0015"+
+		"\u0149\b\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0004\u0016\u014e\b"+
+		"\u0016\u000b\u0016\f\u0016\u014f\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
+		"\u0018\u0001\u0019\u0001\u0019\u0003\u0019\u0158\b\u0019\u0001\u0019\u0001"+
+		"\u0019\u0004\u0019\u015c\b\u0019\u000b\u0019\f\u0019\u015d\u0001\u0019"+
+		"\u0001\u0019\u0003\u0019\u0162\b\u0019\u0001\u001a\u0001\u001a\u0001\u001b"+
+		"\u0001\u001b\u0001\u001c\u0003\u001c\u0169\b\u001c\u0001\u001c\u0001\u001c"+
+		"\u0004\u001c\u016d\b\u001c\u000b\u001c\f\u001c\u016e\u0001\u001d\u0001"+
+		"\u001d\u0000\u0000\u001e\u0001\u0000\u0003\u0000\u0005\u0000\u0007\u0000"+
+		"\t\u0000\u000b\u0000\r\u0000\u000f\u0001\u0011\u0002\u0013\u0003\u0015"+
+		"\u0004\u0017\u0005\u0019\u0006\u001b\u0007\u001d\b\u001f\t!\n#\u000b%"+
+		"\f\'\r)\u000e+\u000f-\u0010/\u00111\u00123\u00135\u00147\u00159\u0016"+
+		";\u0017\u0001\u0000\u001c\u0001\u0000az\u0001\u0000AZ\u0001\u000009\u0002"+
+		"\u0000,,..\u0002\u0000\t\t  \u0002\u0000MMmm\u0002\u0000IIii\u0002\u0000"+
+		"LLll\u0002\u0000TTtt\u0002\u0000EEee\u0002\u0000RRrr\u0002\u0000PPpp\u0002"+
+		"\u0000NNnn\u0002\u0000CCcc\u0002\u0000HHhh\u0002\u0000DDdd\u0002\u0000"+
+		"AAaa\u0002\u0000SSss\u0002\u0000OOoo\u0002\u0000BBbb\u0002\u0000UUuu\u0002"+
+		"\u0000QQqq\u0002\u0000GGgg\u0002\u0000FFff\u0002\u0000ZZzz\u0002\u0000"+
+		"KKkk\u0002\u0000--__\u0002\u0000((,,\u0196\u0000\u000f\u0001\u0000\u0000"+
+		"\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000"+
+		"\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000"+
+		"\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000"+
+		"\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000"+
+		"\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000"+
+		"%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
+		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
+		"\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u0000"+
+		"3\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001"+
+		"\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000"+
+		"\u0000\u0001=\u0001\u0000\u0000\u0000\u0003?\u0001\u0000\u0000\u0000\u0005"+
+		"A\u0001\u0000\u0000\u0000\u0007D\u0001\u0000\u0000\u0000\tI\u0001\u0000"+
+		"\u0000\u0000\u000bU\u0001\u0000\u0000\u0000\rZ\u0001\u0000\u0000\u0000"+
+		"\u000fq\u0001\u0000\u0000\u0000\u0011y\u0001\u0000\u0000\u0000\u0013{"+
+		"\u0001\u0000\u0000\u0000\u0015\u0081\u0001\u0000\u0000\u0000\u0017\u009b"+
+		"\u0001\u0000\u0000\u0000\u0019\u00ba\u0001\u0000\u0000\u0000\u001b\u00c4"+
+		"\u0001\u0000\u0000\u0000\u001d\u00d1\u0001\u0000\u0000\u0000\u001f\u00e0"+
+		"\u0001\u0000\u0000\u0000!\u00f2\u0001\u0000\u0000\u0000#\u0106\u0001\u0000"+
+		"\u0000\u0000%\u0112\u0001\u0000\u0000\u0000\'\u0127\u0001\u0000\u0000"+
+		"\u0000)\u0136\u0001\u0000\u0000\u0000+\u0148\u0001\u0000\u0000\u0000-"+
+		"\u014d\u0001\u0000\u0000\u0000/\u0151\u0001\u0000\u0000\u00001\u0153\u0001"+
+		"\u0000\u0000\u00003\u0157\u0001\u0000\u0000\u00005\u0163\u0001\u0000\u0000"+
+		"\u00007\u0165\u0001\u0000\u0000\u00009\u016c\u0001\u0000\u0000\u0000;"+
+		"\u0170\u0001\u0000\u0000\u0000=>\u0007\u0000\u0000\u0000>\u0002\u0001"+
+		"\u0000\u0000\u0000?@\u0007\u0001\u0000\u0000@\u0004\u0001\u0000\u0000"+
+		"\u0000AB\u0007\u0002\u0000\u0000B\u0006\u0001\u0000\u0000\u0000CE\u0003"+
+		"\u0005\u0002\u0000DC\u0001\u0000\u0000\u0000EF\u0001\u0000\u0000\u0000"+
+		"FD\u0001\u0000\u0000\u0000FG\u0001\u0000\u0000\u0000G\b\u0001\u0000\u0000"+
+		"\u0000HJ\u0003\u0005\u0002\u0000IH\u0001\u0000\u0000\u0000JK\u0001\u0000"+
+		"\u0000\u0000KI\u0001\u0000\u0000\u0000KL\u0001\u0000\u0000\u0000LS\u0001"+
+		"\u0000\u0000\u0000MO\u0007\u0003\u0000\u0000NP\u0003\u0005\u0002\u0000"+
+		"ON\u0001\u0000\u0000\u0000PQ\u0001\u0000\u0000\u0000QO\u0001\u0000\u0000"+
+		"\u0000QR\u0001\u0000\u0000\u0000RT\u0001\u0000\u0000\u0000SM\u0001\u0000"+
+		"\u0000\u0000ST\u0001\u0000\u0000\u0000T\n\u0001\u0000\u0000\u0000UV\u0007"+
+		"\u0004\u0000\u0000V\f\u0001\u0000\u0000\u0000WX\u0003\u0007\u0003\u0000"+
+		"XY\u0003\u000b\u0005\u0000Y[\u0001\u0000\u0000\u0000ZW\u0001\u0000\u0000"+
+		"\u0000Z[\u0001\u0000\u0000\u0000[\\\u0001\u0000\u0000\u0000\\_\u0003\u0007"+
+		"\u0003\u0000]`\u0005/\u0000\u0000^`\u0003\u000b\u0005\u0000_]\u0001\u0000"+
+		"\u0000\u0000_^\u0001\u0000\u0000\u0000`a\u0001\u0000\u0000\u0000a_\u0001"+
+		"\u0000\u0000\u0000ab\u0001\u0000\u0000\u0000bc\u0001\u0000\u0000\u0000"+
+		"cd\u0003\u0007\u0003\u0000d\u000e\u0001\u0000\u0000\u0000ef\u0007\u0005"+
+		"\u0000\u0000fg\u0007\u0006\u0000\u0000gh\u0007\u0007\u0000\u0000hi\u0007"+
+		"\u0007\u0000\u0000ij\u0007\u0006\u0000\u0000jk\u0007\u0007\u0000\u0000"+
+		"kl\u0007\u0006\u0000\u0000lm\u0007\b\u0000\u0000mn\u0007\t\u0000\u0000"+
+		"nr\u0007\n\u0000\u0000op\u0007\u0005\u0000\u0000pr\u0007\u0007\u0000\u0000"+
+		"qe\u0001\u0000\u0000\u0000qo\u0001\u0000\u0000\u0000r\u0010\u0001\u0000"+
+		"\u0000\u0000st\u0007\u0007\u0000\u0000tu\u0007\u0006\u0000\u0000uv\u0007"+
+		"\b\u0000\u0000vw\u0007\t\u0000\u0000wz\u0007\n\u0000\u0000xz\u0007\u0007"+
+		"\u0000\u0000ys\u0001\u0000\u0000\u0000yx\u0001\u0000\u0000\u0000z\u0012"+
+		"\u0001\u0000\u0000\u0000{|\u0007\u000b\u0000\u0000|}\u0007\u0006\u0000"+
+		"\u0000}~\u0007\f\u0000\u0000~\u007f\u0007\r\u0000\u0000\u007f\u0080\u0007"+
+		"\u000e\u0000\u0000\u0080\u0014\u0001\u0000\u0000\u0000\u0081\u0082\u0007"+
+		"\u000f\u0000\u0000\u0082\u0083\u0007\u0010\u0000\u0000\u0083\u0084\u0007"+
+		"\u0011\u0000\u0000\u0084\u0085\u0007\u000e\u0000\u0000\u0085\u0016\u0001"+
+		"\u0000\u0000\u0000\u0086\u0087\u0007\b\u0000\u0000\u0087\u0088\u0007\t"+
+		"\u0000\u0000\u0088\u0089\u0007\u0010\u0000\u0000\u0089\u008a\u0007\u0011"+
+		"\u0000\u0000\u008a\u008b\u0007\u000b\u0000\u0000\u008b\u008c\u0007\u0012"+
+		"\u0000\u0000\u008c\u008d\u0007\u0012\u0000\u0000\u008d\u009c\u0007\f\u0000"+
+		"\u0000\u008e\u008f\u0007\b\u0000\u0000\u008f\u0090\u0007\u0011\u0000\u0000"+
+		"\u0090\u009c\u0007\u000b\u0000\u0000\u0091\u0092\u0007\b\u0000\u0000\u0092"+
+		"\u0093\u0007\t\u0000\u0000\u0093\u0094\u0007\u0010\u0000\u0000\u0094\u0095"+
+		"\u0007\u0011\u0000\u0000\u0095\u0096\u0007\u000b\u0000\u0000\u0096\u0097"+
+		"\u0007\u0012\u0000\u0000\u0097\u0098\u0007\u0012\u0000\u0000\u0098\u0099"+
+		"\u0007\f\u0000\u0000\u0099\u009c\u0007\u0011\u0000\u0000\u009a\u009c\u0005"+
+		"t\u0000\u0000\u009b\u0086\u0001\u0000\u0000\u0000\u009b\u008e\u0001\u0000"+
+		"\u0000\u0000\u009b\u0091\u0001\u0000\u0000\u0000\u009b\u009a\u0001\u0000"+
+		"\u0000\u0000\u009c\u0018\u0001\u0000\u0000\u0000\u009d\u009e\u0007\b\u0000"+
+		"\u0000\u009e\u009f\u0007\u0010\u0000\u0000\u009f\u00a0\u0007\u0013\u0000"+
+		"\u0000\u00a0\u00a1\u0007\u0007\u0000\u0000\u00a1\u00a2\u0007\t\u0000\u0000"+
+		"\u00a2\u00a3\u0007\u0011\u0000\u0000\u00a3\u00a4\u0007\u000b\u0000\u0000"+
+		"\u00a4\u00a5\u0007\u0012\u0000\u0000\u00a5\u00a6\u0007\u0012\u0000\u0000"+
+		"\u00a6\u00bb\u0007\f\u0000\u0000\u00a7\u00a8\u0007\b\u0000\u0000\u00a8"+
+		"\u00a9\u0007\u0013\u0000\u0000\u00a9\u00aa\u0007\u0011\u0000\u0000\u00aa"+
+		"\u00bb\u0007\u000b\u0000\u0000\u00ab\u00ac\u0007\b\u0000\u0000\u00ac\u00ad"+
+		"\u0007\u0013\u0000\u0000\u00ad\u00bb\u0007\u0011\u0000\u0000\u00ae\u00af"+
+		"\u0007\b\u0000\u0000\u00af\u00b0\u0007\u0010\u0000\u0000\u00b0\u00b1\u0007"+
+		"\u0013\u0000\u0000\u00b1\u00b2\u0007\u0007\u0000\u0000\u00b2\u00b3\u0007"+
+		"\t\u0000\u0000\u00b3\u00b4\u0007\u0011\u0000\u0000\u00b4\u00b5\u0007\u000b"+
+		"\u0000\u0000\u00b5\u00b6\u0007\u0012\u0000\u0000\u00b6\u00b7\u0007\u0012"+
+		"\u0000\u0000\u00b7\u00b8\u0007\f\u0000\u0000\u00b8\u00bb\u0007\u0011\u0000"+
+		"\u0000\u00b9\u00bb\u0005T\u0000\u0000\u00ba\u009d\u0001\u0000\u0000\u0000"+
+		"\u00ba\u00a7\u0001\u0000\u0000\u0000\u00ba\u00ab\u0001\u0000\u0000\u0000"+
+		"\u00ba\u00ae\u0001\u0000\u0000\u0000\u00ba\u00b9\u0001\u0000\u0000\u0000"+
+		"\u00bb\u001a\u0001\u0000\u0000\u0000\u00bc\u00bd\u0007\r\u0000\u0000\u00bd"+
+		"\u00be\u0007\u0014\u0000\u0000\u00be\u00c5\u0007\u000b\u0000\u0000\u00bf"+
+		"\u00c5\u0007\r\u0000\u0000\u00c0\u00c1\u0007\r\u0000\u0000\u00c1\u00c2"+
+		"\u0007\u0014\u0000\u0000\u00c2\u00c3\u0007\u000b\u0000\u0000\u00c3\u00c5"+
+		"\u0007\u0011\u0000\u0000\u00c4\u00bc\u0001\u0000\u0000\u0000\u00c4\u00bf"+
+		"\u0001\u0000\u0000\u0000\u00c4\u00c0\u0001\u0000\u0000\u0000\u00c5\u001c"+
+		"\u0001\u0000\u0000\u0000\u00c6\u00c7\u0007\u000b\u0000\u0000\u00c7\u00c8"+
+		"\u0007\u0006\u0000\u0000\u00c8\u00c9\u0007\f\u0000\u0000\u00c9\u00d2\u0007"+
+		"\b\u0000\u0000\u00ca\u00cb\u0007\u000b\u0000\u0000\u00cb\u00d2\u0007\b"+
+		"\u0000\u0000\u00cc\u00cd\u0007\u000b\u0000\u0000\u00cd\u00ce\u0007\u0006"+
+		"\u0000\u0000\u00ce\u00cf\u0007\f\u0000\u0000\u00cf\u00d0\u0007\b\u0000"+
+		"\u0000\u00d0\u00d2\u0007\u0011\u0000\u0000\u00d1\u00c6\u0001\u0000\u0000"+
+		"\u0000\u00d1\u00ca\u0001\u0000\u0000\u0000\u00d1\u00cc\u0001\u0000\u0000"+
+		"\u0000\u00d2\u001e\u0001\u0000\u0000\u0000\u00d3\u00d4\u0007\u0015\u0000"+
+		"\u0000\u00d4\u00d5\u0007\u0014\u0000\u0000\u00d5\u00d6\u0007\u0010\u0000"+
+		"\u0000\u00d6\u00d7\u0007\n\u0000\u0000\u00d7\u00e1\u0007\b\u0000\u0000"+
+		"\u00d8\u00d9\u0007\u0015\u0000\u0000\u00d9\u00e1\u0007\b\u0000\u0000\u00da"+
+		"\u00db\u0007\u0015\u0000\u0000\u00db\u00dc\u0007\u0014\u0000\u0000\u00dc"+
+		"\u00dd\u0007\u0010\u0000\u0000\u00dd\u00de\u0007\n\u0000\u0000\u00de\u00df"+
+		"\u0007\b\u0000\u0000\u00df\u00e1\u0007\u0011\u0000\u0000\u00e0\u00d3\u0001"+
+		"\u0000\u0000\u0000\u00e0\u00d8\u0001\u0000\u0000\u0000\u00e0\u00da\u0001"+
+		"\u0000\u0000\u0000\u00e1 \u0001\u0000\u0000\u0000\u00e2\u00e3\u0007\u0016"+
+		"\u0000\u0000\u00e3\u00e4\u0007\u0010\u0000\u0000\u00e4\u00e5\u0007\u0007"+
+		"\u0000\u0000\u00e5\u00e6\u0007\u0007\u0000\u0000\u00e6\u00e7\u0007\u0012"+
+		"\u0000\u0000\u00e7\u00f3\u0007\f\u0000\u0000\u00e8\u00e9\u0007\u0016\u0000"+
+		"\u0000\u00e9\u00ea\u0007\u0010\u0000\u0000\u00ea\u00f3\u0007\u0007\u0000"+
+		"\u0000\u00eb\u00ec\u0007\u0016\u0000\u0000\u00ec\u00ed\u0007\u0010\u0000"+
+		"\u0000\u00ed\u00ee\u0007\u0007\u0000\u0000\u00ee\u00ef\u0007\u0007\u0000"+
+		"\u0000\u00ef\u00f0\u0007\u0012\u0000\u0000\u00f0\u00f1\u0007\f\u0000\u0000"+
+		"\u00f1\u00f3\u0007\u0011\u0000\u0000\u00f2\u00e2\u0001\u0000\u0000\u0000"+
+		"\u00f2\u00e8\u0001\u0000\u0000\u0000\u00f2\u00eb\u0001\u0000\u0000\u0000"+
+		"\u00f3\"\u0001\u0000\u0000\u0000\u00f4\u00f5\u0007\u0017\u0000\u0000\u00f5"+
+		"\u00f6\u0007\u0007\u0000\u0000\u00f6\u00f7\u0007\u0014\u0000\u0000\u00f7"+
+		"\u00f8\u0007\u0006\u0000\u0000\u00f8\u00f9\u0007\u000f\u0000\u0000\u00f9"+
+		"\u00fa\u0005 \u0000\u0000\u00fa\u00fb\u0007\u0012\u0000\u0000\u00fb\u00fc"+
+		"\u0007\u0014\u0000\u0000\u00fc\u00fd\u0007\f\u0000\u0000\u00fd\u00fe\u0007"+
+		"\r\u0000\u0000\u00fe\u00ff\u0007\t\u0000\u0000\u00ff\u0107\u0004\u0011"+
+		"\u0000\u0000\u0100\u0101\u0007\u0017\u0000\u0000\u0101\u0102\u0007\u0007"+
+		"\u0000\u0000\u0102\u0103\u0005 \u0000\u0000\u0103\u0104\u0007\u0012\u0000"+
+		"\u0000\u0104\u0105\u0007\u0018\u0000\u0000\u0105\u0107\u0004\u0011\u0001"+
+		"\u0000\u0106\u00f4\u0001\u0000\u0000\u0000\u0106\u0100\u0001\u0000\u0000"+
+		"\u0000\u0107$\u0001\u0000\u0000\u0000\u0108\u0109\u0007\u0016\u0000\u0000"+
+		"\u0109\u010a\u0007\n\u0000\u0000\u010a\u010b\u0007\u0010\u0000\u0000\u010b"+
+		"\u0113\u0007\u0005\u0000\u0000\u010c\u0113\u0007\u0016\u0000\u0000\u010d"+
+		"\u010e\u0007\u0016\u0000\u0000\u010e\u010f\u0007\n\u0000\u0000\u010f\u0110"+
+		"\u0007\u0010\u0000\u0000\u0110\u0111\u0007\u0005\u0000\u0000\u0111\u0113"+
+		"\u0007\u0011\u0000\u0000\u0112\u0108\u0001\u0000\u0000\u0000\u0112\u010c"+
+		"\u0001\u0000\u0000\u0000\u0112\u010d\u0001\u0000\u0000\u0000\u0113&\u0001"+
+		"\u0000\u0000\u0000\u0114\u0115\u0007\u0019\u0000\u0000\u0115\u0116\u0007"+
+		"\u0006\u0000\u0000\u0116\u0117\u0007\u0007\u0000\u0000\u0117\u0118\u0007"+
+		"\u0012\u0000\u0000\u0118\u0119\u0007\u0016\u0000\u0000\u0119\u011a\u0007"+
+		"\n\u0000\u0000\u011a\u011b\u0007\u0010\u0000\u0000\u011b\u0128\u0007\u0005"+
+		"\u0000\u0000\u011c\u011d\u0007\u0019\u0000\u0000\u011d\u0128\u0007\u0016"+
+		"\u0000\u0000\u011e\u011f\u0007\u0019\u0000\u0000\u011f\u0120\u0007\u0006"+
+		"\u0000\u0000\u0120\u0121\u0007\u0007\u0000\u0000\u0121\u0122\u0007\u0012"+
+		"\u0000\u0000\u0122\u0123\u0007\u0016\u0000\u0000\u0123\u0124\u0007\n\u0000"+
+		"\u0000\u0124\u0125\u0007\u0010\u0000\u0000\u0125\u0126\u0007\u0005\u0000"+
+		"\u0000\u0126\u0128\u0007\u0011\u0000\u0000\u0127\u0114\u0001\u0000\u0000"+
+		"\u0000\u0127\u011c\u0001\u0000\u0000\u0000\u0127\u011e\u0001\u0000\u0000"+
+		"\u0000\u0128(\u0001\u0000\u0000\u0000\u0129\u012a\u0007\u0012\u0000\u0000"+
+		"\u012a\u012b\u0007\u0014\u0000\u0000\u012b\u012c\u0007\f\u0000\u0000\u012c"+
+		"\u012d\u0007\r\u0000\u0000\u012d\u0137\u0007\t\u0000\u0000\u012e\u012f"+
+		"\u0007\u0012\u0000\u0000\u012f\u0137\u0007\u0018\u0000\u0000\u0130\u0131"+
+		"\u0007\u0012\u0000\u0000\u0131\u0132\u0007\u0014\u0000\u0000\u0132\u0133"+
+		"\u0007\f\u0000\u0000\u0133\u0134\u0007\r\u0000\u0000\u0134\u0135\u0007"+
+		"\t\u0000\u0000\u0135\u0137\u0007\u0011\u0000\u0000\u0136\u0129\u0001\u0000"+
+		"\u0000\u0000\u0136\u012e\u0001\u0000\u0000\u0000\u0136\u0130\u0001\u0000"+
+		"\u0000\u0000\u0137*\u0001\u0000\u0000\u0000\u0138\u0139\u0007\u000b\u0000"+
+		"\u0000\u0139\u013a\u0007\u0012\u0000\u0000\u013a\u013b\u0007\u0014\u0000"+
+		"\u0000\u013b\u013c\u0007\f\u0000\u0000\u013c\u0149\u0007\u000f\u0000\u0000"+
+		"\u013d\u013e\u0007\u0007\u0000\u0000\u013e\u0149\u0007\u0013\u0000\u0000"+
+		"\u013f\u0140\u0007\u0007\u0000\u0000\u0140\u0141\u0007\u0013\u0000\u0000"+
+		"\u0141\u0149\u0007\u0011\u0000\u0000\u0142\u0143\u0007\u000b\u0000\u0000"+
+		"\u0143\u0144\u0007\u0012\u0000\u0000\u0144\u0145\u0007\u0014\u0000\u0000"+
+		"\u0145\u0146\u0007\f\u0000\u0000\u0146\u0147\u0007\u000f\u0000\u0000\u0147"+
+		"\u0149\u0007\u0011\u0000\u0000\u0148\u0138\u0001\u0000\u0000\u0000\u0148"+
+		"\u013d\u0001\u0000\u0000\u0000\u0148\u013f\u0001\u0000\u0000\u0000\u0148"+
+		"\u0142\u0001\u0000\u0000\u0000\u0149,\u0001\u0000\u0000\u0000\u014a\u014e"+
+		"\u0003\u0001\u0000\u0000\u014b\u014e\u0003\u0003\u0001\u0000\u014c\u014e"+
+		"\u0007\u001a\u0000\u0000\u014d\u014a\u0001\u0000\u0000\u0000\u014d\u014b"+
+		"\u0001\u0000\u0000\u0000\u014d\u014c\u0001\u0000\u0000\u0000\u014e\u014f"+
+		"\u0001\u0000\u0000\u0000\u014f\u014d\u0001\u0000\u0000\u0000\u014f\u0150"+
+		"\u0001\u0000\u0000\u0000\u0150.\u0001\u0000\u0000\u0000\u0151\u0152\u0003"+
+		"\u000b\u0005\u0000\u01520\u0001\u0000\u0000\u0000\u0153\u0154\u0003\r"+
+		"\u0006\u0000\u01542\u0001\u0000\u0000\u0000\u0155\u0158\u0003\t\u0004"+
+		"\u0000\u0156\u0158\u0003\r\u0006\u0000\u0157\u0155\u0001\u0000\u0000\u0000"+
+		"\u0157\u0156\u0001\u0000\u0000\u0000\u0158\u015b\u0001\u0000\u0000\u0000"+
+		"\u0159\u015c\u0005-\u0000\u0000\u015a\u015c\u0003\u000b\u0005\u0000\u015b"+
+		"\u0159\u0001\u0000\u0000\u0000\u015b\u015a\u0001\u0000\u0000\u0000\u015c"+
+		"\u015d\u0001\u0000\u0000\u0000\u015d\u015b\u0001\u0000\u0000\u0000\u015d"+
+		"\u015e\u0001\u0000\u0000\u0000\u015e\u0161\u0001\u0000\u0000\u0000\u015f"+
+		"\u0162\u0003\t\u0004\u0000\u0160\u0162\u0003\r\u0006\u0000\u0161\u015f"+
+		"\u0001\u0000\u0000\u0000\u0161\u0160\u0001\u0000\u0000\u0000\u01624\u0001"+
+		"\u0000\u0000\u0000\u0163\u0164\u0003\t\u0004\u0000\u01646\u0001\u0000"+
+		"\u0000\u0000\u0165\u0166\u0007\u001b\u0000\u0000\u01668\u0001\u0000\u0000"+
+		"\u0000\u0167\u0169\u0005\r\u0000\u0000\u0168\u0167\u0001\u0000\u0000\u0000"+
+		"\u0168\u0169\u0001\u0000\u0000\u0000\u0169\u016a\u0001\u0000\u0000\u0000"+
+		"\u016a\u016d\u0005\n\u0000\u0000\u016b\u016d\u0005\r\u0000\u0000\u016c"+
+		"\u0168\u0001\u0000\u0000\u0000\u016c\u016b\u0001\u0000\u0000\u0000\u016d"+
+		"\u016e\u0001\u0000\u0000\u0000\u016e\u016c\u0001\u0000\u0000\u0000\u016e"+
+		"\u016f\u0001\u0000\u0000\u0000\u016f:\u0001\u0000\u0000\u0000\u0170\u0171"+
+		"\t\u0000\u0000\u0000\u0171<\u0001\u0000\u0000\u0000\u001e\u0000FKQSZ_"+
+		"aqy\u009b\u00ba\u00c4\u00d1\u00e0\u00f2\u0106\u0112\u0127\u0136\u0148"+
+		"\u014d\u014f\u0157\u015b\u015d\u0161\u0168\u016c\u016e\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
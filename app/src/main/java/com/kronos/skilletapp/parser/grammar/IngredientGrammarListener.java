@@ -27,16 +27,6 @@ public interface IngredientGrammarListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitIngredient(IngredientGrammarParser.IngredientContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link IngredientGrammarParser#measurement}.
-	 * @param ctx the parse tree
-	 */
-	void enterMeasurement(IngredientGrammarParser.MeasurementContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link IngredientGrammarParser#measurement}.
-	 * @param ctx the parse tree
-	 */
-	void exitMeasurement(IngredientGrammarParser.MeasurementContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link IngredientGrammarParser#quantity}.
 	 * @param ctx the parse tree
@@ -47,36 +37,6 @@ public interface IngredientGrammarListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitQuantity(IngredientGrammarParser.QuantityContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link IngredientGrammarParser#decimal}.
-	 * @param ctx the parse tree
-	 */
-	void enterDecimal(IngredientGrammarParser.DecimalContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link IngredientGrammarParser#decimal}.
-	 * @param ctx the parse tree
-	 */
-	void exitDecimal(IngredientGrammarParser.DecimalContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link IngredientGrammarParser#fraction}.
-	 * @param ctx the parse tree
-	 */
-	void enterFraction(IngredientGrammarParser.FractionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link IngredientGrammarParser#fraction}.
-	 * @param ctx the parse tree
-	 */
-	void exitFraction(IngredientGrammarParser.FractionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link IngredientGrammarParser#range}.
-	 * @param ctx the parse tree
-	 */
-	void enterRange(IngredientGrammarParser.RangeContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link IngredientGrammarParser#range}.
-	 * @param ctx the parse tree
-	 */
-	void exitRange(IngredientGrammarParser.RangeContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link IngredientGrammarParser#name}.
 	 * @param ctx the parse tree
@@ -97,4 +57,14 @@ public interface IngredientGrammarListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitComment(IngredientGrammarParser.CommentContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link IngredientGrammarParser#unit}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnit(IngredientGrammarParser.UnitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link IngredientGrammarParser#unit}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnit(IngredientGrammarParser.UnitContext ctx);
 }
\ No newline at end of file
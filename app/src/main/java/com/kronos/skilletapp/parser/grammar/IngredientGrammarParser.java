@@ -17,29 +17,33 @@ public class IngredientGrammarParser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__0=1, T__1=2, WORD=3, WHITESPACE=4, NUMBER=5, COMMENT_START=6, NEWLINE=7, 
-		ANY=8;
+		UNIT_MILLILITER=1, UNIT_LITER=2, UNIT_PINCH=3, UNIT_DASH=4, UNIT_TEASPOON=5, 
+		UNIT_TABLESPOON=6, UNIT_CUP=7, UNIT_PINT=8, UNIT_QUART=9, UNIT_GALLON=10, 
+		UNIT_FLUID_OUNCE=11, UNIT_GRAM=12, UNIT_KILOGRAM=13, UNIT_OUNCE=14, UNIT_POUND=15, 
+		WORD=16, WHITESPACE=17, FRACTION=18, RANGE=19, NUMBER=20, COMMENT_START=21, 
+		NEWLINE=22, ANY=23;
 	public static final int
-		RULE_recipe = 0, RULE_ingredient = 1, RULE_measurement = 2, RULE_quantity = 3, 
-		RULE_decimal = 4, RULE_fraction = 5, RULE_range = 6, RULE_name = 7, RULE_comment = 8;
+		RULE_recipe = 0, RULE_ingredient = 1, RULE_quantity = 2, RULE_name = 3, 
+		RULE_comment = 4, RULE_unit = 5;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"recipe", "ingredient", "measurement", "quantity", "decimal", "fraction", 
-			"range", "name", "comment"
+			"recipe", "ingredient", "quantity", "name", "comment", "unit"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'/'", "'-'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-			null, null, null, "WORD", "WHITESPACE", "NUMBER", "COMMENT_START", "NEWLINE", 
-			"ANY"
+			null, "UNIT_MILLILITER", "UNIT_LITER", "UNIT_PINCH", "UNIT_DASH", "UNIT_TEASPOON", 
+			"UNIT_TABLESPOON", "UNIT_CUP", "UNIT_PINT", "UNIT_QUART", "UNIT_GALLON", 
+			"UNIT_FLUID_OUNCE", "UNIT_GRAM", "UNIT_KILOGRAM", "UNIT_OUNCE", "UNIT_POUND", 
+			"WORD", "WHITESPACE", "FRACTION", "RANGE", "NUMBER", "COMMENT_START", 
+			"NEWLINE", "ANY"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -128,21 +132,21 @@ public class IngredientGrammarParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(19); 
+			setState(13); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(18);
+				setState(12);
 				ingredient();
 				}
 				}
-				setState(21); 
+				setState(15); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 56L) != 0) );
-			setState(23);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 2097150L) != 0) );
+			setState(17);
 			match(EOF);
 			}
 		}
@@ -163,8 +167,8 @@ public class IngredientGrammarParser extends Parser {
 			return getRuleContext(NameContext.class,0);
 		}
 		public TerminalNode NEWLINE() { return getToken(IngredientGrammarParser.NEWLINE, 0); }
-		public MeasurementContext measurement() {
-			return getRuleContext(MeasurementContext.class,0);
+		public QuantityContext quantity() {
+			return getRuleContext(QuantityContext.class,0);
 		}
 		public TerminalNode WHITESPACE() { return getToken(IngredientGrammarParser.WHITESPACE, 0); }
 		public CommentContext comment() {
@@ -196,31 +200,31 @@ public class IngredientGrammarParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(28);
+			setState(22);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==NUMBER) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1835008L) != 0)) {
 				{
-				setState(25);
-				measurement();
-				setState(26);
+				setState(19);
+				quantity();
+				setState(20);
 				match(WHITESPACE);
 				}
 			}
 
-			setState(30);
+			setState(24);
 			name();
-			setState(32);
+			setState(26);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COMMENT_START) {
 				{
-				setState(31);
+				setState(25);
 				comment();
 				}
 			}
 
-			setState(34);
+			setState(28);
 			match(NEWLINE);
 			}
 		}
@@ -235,76 +239,11 @@ public class IngredientGrammarParser extends Parser {
 		return _localctx;
 	}
 
-	@SuppressWarnings("CheckReturnValue")
-	public static class MeasurementContext extends ParserRuleContext {
-		public QuantityContext quantity() {
-			return getRuleContext(QuantityContext.class,0);
-		}
-		public TerminalNode WHITESPACE() { return getToken(IngredientGrammarParser.WHITESPACE, 0); }
-		public TerminalNode WORD() { return getToken(IngredientGrammarParser.WORD, 0); }
-		public MeasurementContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_measurement; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterMeasurement(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitMeasurement(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitMeasurement(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final MeasurementContext measurement() throws RecognitionException {
-		MeasurementContext _localctx = new MeasurementContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_measurement);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(36);
-			quantity();
-			setState(39);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
-			case 1:
-				{
-				setState(37);
-				match(WHITESPACE);
-				setState(38);
-				match(WORD);
-				}
-				break;
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
 	public static class QuantityContext extends ParserRuleContext {
-		public DecimalContext decimal() {
-			return getRuleContext(DecimalContext.class,0);
-		}
-		public FractionContext fraction() {
-			return getRuleContext(FractionContext.class,0);
-		}
-		public RangeContext range() {
-			return getRuleContext(RangeContext.class,0);
-		}
+		public TerminalNode NUMBER() { return getToken(IngredientGrammarParser.NUMBER, 0); }
+		public TerminalNode FRACTION() { return getToken(IngredientGrammarParser.FRACTION, 0); }
+		public TerminalNode RANGE() { return getToken(IngredientGrammarParser.RANGE, 0); }
 		public QuantityContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -326,31 +265,20 @@ public class IngredientGrammarParser extends Parser {
 
 	public final QuantityContext quantity() throws RecognitionException {
 		QuantityContext _localctx = new QuantityContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_quantity);
+		enterRule(_localctx, 4, RULE_quantity);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(44);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
-			case 1:
-				{
-				setState(41);
-				decimal();
-				}
-				break;
-			case 2:
-				{
-				setState(42);
-				fraction();
-				}
-				break;
-			case 3:
-				{
-				setState(43);
-				range();
-				}
-				break;
+			setState(30);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1835008L) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
 			}
 			}
 		}
@@ -366,122 +294,163 @@ public class IngredientGrammarParser extends Parser {
 	}
 
 	@SuppressWarnings("CheckReturnValue")
-	public static class DecimalContext extends ParserRuleContext {
-		public TerminalNode NUMBER() { return getToken(IngredientGrammarParser.NUMBER, 0); }
-		public DecimalContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_decimal; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterDecimal(this);
+	public static class NameContext extends ParserRuleContext {
+		public List<TerminalNode> WORD() { return getTokens(IngredientGrammarParser.WORD); }
+		public TerminalNode WORD(int i) {
+			return getToken(IngredientGrammarParser.WORD, i);
 		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitDecimal(this);
+		public List<UnitContext> unit() {
+			return getRuleContexts(UnitContext.class);
 		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitDecimal(this);
-			else return visitor.visitChildren(this);
+		public UnitContext unit(int i) {
+			return getRuleContext(UnitContext.class,i);
 		}
-	}
-
-	public final DecimalContext decimal() throws RecognitionException {
-		DecimalContext _localctx = new DecimalContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_decimal);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(46);
-			match(NUMBER);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
+		public List<TerminalNode> WHITESPACE() { return getTokens(IngredientGrammarParser.WHITESPACE); }
+		public TerminalNode WHITESPACE(int i) {
+			return getToken(IngredientGrammarParser.WHITESPACE, i);
 		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class FractionContext extends ParserRuleContext {
 		public List<TerminalNode> NUMBER() { return getTokens(IngredientGrammarParser.NUMBER); }
 		public TerminalNode NUMBER(int i) {
 			return getToken(IngredientGrammarParser.NUMBER, i);
 		}
-		public List<TerminalNode> WHITESPACE() { return getTokens(IngredientGrammarParser.WHITESPACE); }
-		public TerminalNode WHITESPACE(int i) {
-			return getToken(IngredientGrammarParser.WHITESPACE, i);
+		public List<TerminalNode> FRACTION() { return getTokens(IngredientGrammarParser.FRACTION); }
+		public TerminalNode FRACTION(int i) {
+			return getToken(IngredientGrammarParser.FRACTION, i);
+		}
+		public List<TerminalNode> RANGE() { return getTokens(IngredientGrammarParser.RANGE); }
+		public TerminalNode RANGE(int i) {
+			return getToken(IngredientGrammarParser.RANGE, i);
 		}
-		public FractionContext(ParserRuleContext parent, int invokingState) {
+		public NameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_fraction; }
+		@Override public int getRuleIndex() { return RULE_name; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterFraction(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterName(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitFraction(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitName(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitFraction(this);
+			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitName(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final FractionContext fraction() throws RecognitionException {
-		FractionContext _localctx = new FractionContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_fraction);
+	public final NameContext name() throws RecognitionException {
+		NameContext _localctx = new NameContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_name);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(50);
+			setState(35);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case WORD:
 				{
-				setState(48);
-				match(NUMBER);
-				setState(49);
+				setState(32);
+				match(WORD);
+				}
+				break;
+			case UNIT_MILLILITER:
+			case UNIT_LITER:
+			case UNIT_PINCH:
+			case UNIT_DASH:
+			case UNIT_TEASPOON:
+			case UNIT_TABLESPOON:
+			case UNIT_CUP:
+			case UNIT_PINT:
+			case UNIT_QUART:
+			case UNIT_GALLON:
+			case UNIT_FLUID_OUNCE:
+			case UNIT_GRAM:
+			case UNIT_KILOGRAM:
+			case UNIT_OUNCE:
+			case UNIT_POUND:
+				{
+				setState(33);
+				unit();
+				}
+				break;
+			case WHITESPACE:
+				{
+				setState(34);
 				match(WHITESPACE);
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
 			}
-			setState(52);
-			match(NUMBER);
-			setState(54); 
+			setState(45);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			do {
-				{
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & 2097150L) != 0)) {
 				{
-				setState(53);
-				_la = _input.LA(1);
-				if ( !(_la==T__0 || _la==WHITESPACE) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+				setState(43);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case WORD:
+					{
+					setState(37);
+					match(WORD);
+					}
+					break;
+				case UNIT_MILLILITER:
+				case UNIT_LITER:
+				case UNIT_PINCH:
+				case UNIT_DASH:
+				case UNIT_TEASPOON:
+				case UNIT_TABLESPOON:
+				case UNIT_CUP:
+				case UNIT_PINT:
+				case UNIT_QUART:
+				case UNIT_GALLON:
+				case UNIT_FLUID_OUNCE:
+				case UNIT_GRAM:
+				case UNIT_KILOGRAM:
+				case UNIT_OUNCE:
+				case UNIT_POUND:
+					{
+					setState(38);
+					unit();
+					}
+					break;
+				case WHITESPACE:
+					{
+					setState(39);
+					match(WHITESPACE);
+					}
+					break;
+				case NUMBER:
+					{
+					setState(40);
+					match(NUMBER);
+					}
+					break;
+				case FRACTION:
+					{
+					setState(41);
+					match(FRACTION);
+					}
+					break;
+				case RANGE:
+					{
+					setState(42);
+					match(RANGE);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
 				}
-				setState(56); 
+				setState(47);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( _la==T__0 || _la==WHITESPACE );
-			setState(58);
-			match(NUMBER);
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -496,74 +465,49 @@ public class IngredientGrammarParser extends Parser {
 	}
 
 	@SuppressWarnings("CheckReturnValue")
-	public static class RangeContext extends ParserRuleContext {
-		public List<DecimalContext> decimal() {
-			return getRuleContexts(DecimalContext.class);
-		}
-		public DecimalContext decimal(int i) {
-			return getRuleContext(DecimalContext.class,i);
-		}
-		public List<FractionContext> fraction() {
-			return getRuleContexts(FractionContext.class);
-		}
-		public FractionContext fraction(int i) {
-			return getRuleContext(FractionContext.class,i);
-		}
-		public List<TerminalNode> WHITESPACE() { return getTokens(IngredientGrammarParser.WHITESPACE); }
-		public TerminalNode WHITESPACE(int i) {
-			return getToken(IngredientGrammarParser.WHITESPACE, i);
+	public static class CommentContext extends ParserRuleContext {
+		public TerminalNode COMMENT_START() { return getToken(IngredientGrammarParser.COMMENT_START, 0); }
+		public List<TerminalNode> NEWLINE() { return getTokens(IngredientGrammarParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(IngredientGrammarParser.NEWLINE, i);
 		}
-		public RangeContext(ParserRuleContext parent, int invokingState) {
+		public CommentContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_range; }
+		@Override public int getRuleIndex() { return RULE_comment; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterRange(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterComment(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitRange(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitComment(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitRange(this);
+			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitComment(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final RangeContext range() throws RecognitionException {
-		RangeContext _localctx = new RangeContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_range);
+	public final CommentContext comment() throws RecognitionException {
+		CommentContext _localctx = new CommentContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_comment);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(62);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
-			case 1:
-				{
-				setState(60);
-				decimal();
-				}
-				break;
-			case 2:
-				{
-				setState(61);
-				fraction();
-				}
-				break;
-			}
-			setState(65); 
+			setState(48);
+			match(COMMENT_START);
+			setState(50); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(64);
+				setState(49);
 				_la = _input.LA(1);
-				if ( !(_la==T__1 || _la==WHITESPACE) ) {
+				if ( _la <= 0 || (_la==NEWLINE) ) {
 				_errHandler.recoverInline(this);
 				}
 				else {
@@ -573,26 +517,10 @@ public class IngredientGrammarParser extends Parser {
 				}
 				}
 				}
-				setState(67); 
+				setState(52); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( _la==T__1 || _la==WHITESPACE );
-			setState(71);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
-			case 1:
-				{
-				setState(69);
-				decimal();
-				}
-				break;
-			case 2:
-				{
-				setState(70);
-				fraction();
-				}
-				break;
-			}
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 12582910L) != 0) );
 			}
 		}
 		catch (RecognitionException re) {
@@ -607,148 +535,58 @@ public class IngredientGrammarParser extends Parser {
 	}
 
 	@SuppressWarnings("CheckReturnValue")
-	public static class NameContext extends ParserRuleContext {
-		public List<TerminalNode> WORD() { return getTokens(IngredientGrammarParser.WORD); }
-		public TerminalNode WORD(int i) {
-			return getToken(IngredientGrammarParser.WORD, i);
-		}
-		public List<TerminalNode> WHITESPACE() { return getTokens(IngredientGrammarParser.WHITESPACE); }
-		public TerminalNode WHITESPACE(int i) {
-			return getToken(IngredientGrammarParser.WHITESPACE, i);
-		}
-		public NameContext(ParserRuleContext parent, int invokingState) {
+	public static class UnitContext extends ParserRuleContext {
+		public TerminalNode UNIT_MILLILITER() { return getToken(IngredientGrammarParser.UNIT_MILLILITER, 0); }
+		public TerminalNode UNIT_LITER() { return getToken(IngredientGrammarParser.UNIT_LITER, 0); }
+		public TerminalNode UNIT_PINCH() { return getToken(IngredientGrammarParser.UNIT_PINCH, 0); }
+		public TerminalNode UNIT_DASH() { return getToken(IngredientGrammarParser.UNIT_DASH, 0); }
+		public TerminalNode UNIT_TEASPOON() { return getToken(IngredientGrammarParser.UNIT_TEASPOON, 0); }
+		public TerminalNode UNIT_TABLESPOON() { return getToken(IngredientGrammarParser.UNIT_TABLESPOON, 0); }
+		public TerminalNode UNIT_CUP() { return getToken(IngredientGrammarParser.UNIT_CUP, 0); }
+		public TerminalNode UNIT_PINT() { return getToken(IngredientGrammarParser.UNIT_PINT, 0); }
+		public TerminalNode UNIT_QUART() { return getToken(IngredientGrammarParser.UNIT_QUART, 0); }
+		public TerminalNode UNIT_GALLON() { return getToken(IngredientGrammarParser.UNIT_GALLON, 0); }
+		public TerminalNode UNIT_FLUID_OUNCE() { return getToken(IngredientGrammarParser.UNIT_FLUID_OUNCE, 0); }
+		public TerminalNode UNIT_GRAM() { return getToken(IngredientGrammarParser.UNIT_GRAM, 0); }
+		public TerminalNode UNIT_KILOGRAM() { return getToken(IngredientGrammarParser.UNIT_KILOGRAM, 0); }
+		public TerminalNode UNIT_OUNCE() { return getToken(IngredientGrammarParser.UNIT_OUNCE, 0); }
+		public TerminalNode UNIT_POUND() { return getToken(IngredientGrammarParser.UNIT_POUND, 0); }
+		public UnitContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_name; }
+		@Override public int getRuleIndex() { return RULE_unit; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterName(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterUnit(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitName(this);
+			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitUnit(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitName(this);
+			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitUnit(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final NameContext name() throws RecognitionException {
-		NameContext _localctx = new NameContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_name);
+	public final UnitContext unit() throws RecognitionException {
+		UnitContext _localctx = new UnitContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_unit);
 		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(76);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
-			while ( _alt!=1 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1+1 ) {
-					{
-					{
-					setState(73);
-					_la = _input.LA(1);
-					if ( !(_la==WORD || _la==WHITESPACE) ) {
-					_errHandler.recoverInline(this);
-					}
-					else {
-						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-						_errHandler.reportMatch(this);
-						consume();
-					}
-					}
-					} 
-				}
-				setState(78);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
-			}
-			setState(79);
-			match(WORD);
-			setState(81);
-			_errHandler.sync(this);
+			setState(54);
 			_la = _input.LA(1);
-			if (_la==WHITESPACE) {
-				{
-				setState(80);
-				match(WHITESPACE);
-				}
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 65534L) != 0)) ) {
+			_errHandler.recoverInline(this);
 			}
-
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
 			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class CommentContext extends ParserRuleContext {
-		public TerminalNode COMMENT_START() { return getToken(IngredientGrammarParser.COMMENT_START, 0); }
-		public List<TerminalNode> NEWLINE() { return getTokens(IngredientGrammarParser.NEWLINE); }
-		public TerminalNode NEWLINE(int i) {
-			return getToken(IngredientGrammarParser.NEWLINE, i);
-		}
-		public CommentContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_comment; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).enterComment(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof IngredientGrammarListener ) ((IngredientGrammarListener)listener).exitComment(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof IngredientGrammarVisitor ) return ((IngredientGrammarVisitor<? extends T>)visitor).visitComment(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final CommentContext comment() throws RecognitionException {
-		CommentContext _localctx = new CommentContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_comment);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(83);
-			match(COMMENT_START);
-			setState(85); 
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			do {
-				{
-				{
-				setState(84);
-				_la = _input.LA(1);
-				if ( _la <= 0 || (_la==NEWLINE) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				}
-				}
-				setState(87); 
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 382L) != 0) );
 			}
 		}
 		catch (RecognitionException re) {
@@ -763,61 +601,44 @@ public class IngredientGrammarParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001\bZ\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001\u00179\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
-		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
-		"\b\u0007\b\u0001\u0000\u0004\u0000\u0014\b\u0000\u000b\u0000\f\u0000\u0015"+
-		"\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u0001"+
-		"\u001d\b\u0001\u0001\u0001\u0001\u0001\u0003\u0001!\b\u0001\u0001\u0001"+
-		"\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002(\b\u0002"+
-		"\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003-\b\u0003\u0001\u0004"+
-		"\u0001\u0004\u0001\u0005\u0001\u0005\u0003\u00053\b\u0005\u0001\u0005"+
-		"\u0001\u0005\u0004\u00057\b\u0005\u000b\u0005\f\u00058\u0001\u0005\u0001"+
-		"\u0005\u0001\u0006\u0001\u0006\u0003\u0006?\b\u0006\u0001\u0006\u0004"+
-		"\u0006B\b\u0006\u000b\u0006\f\u0006C\u0001\u0006\u0001\u0006\u0003\u0006"+
-		"H\b\u0006\u0001\u0007\u0005\u0007K\b\u0007\n\u0007\f\u0007N\t\u0007\u0001"+
-		"\u0007\u0001\u0007\u0003\u0007R\b\u0007\u0001\b\u0001\b\u0004\bV\b\b\u000b"+
-		"\b\f\bW\u0001\b\u0001L\u0000\t\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010"+
-		"\u0000\u0004\u0002\u0000\u0001\u0001\u0004\u0004\u0002\u0000\u0002\u0002"+
-		"\u0004\u0004\u0001\u0000\u0003\u0004\u0001\u0000\u0007\u0007^\u0000\u0013"+
-		"\u0001\u0000\u0000\u0000\u0002\u001c\u0001\u0000\u0000\u0000\u0004$\u0001"+
-		"\u0000\u0000\u0000\u0006,\u0001\u0000\u0000\u0000\b.\u0001\u0000\u0000"+
-		"\u0000\n2\u0001\u0000\u0000\u0000\f>\u0001\u0000\u0000\u0000\u000eL\u0001"+
-		"\u0000\u0000\u0000\u0010S\u0001\u0000\u0000\u0000\u0012\u0014\u0003\u0002"+
-		"\u0001\u0000\u0013\u0012\u0001\u0000\u0000\u0000\u0014\u0015\u0001\u0000"+
-		"\u0000\u0000\u0015\u0013\u0001\u0000\u0000\u0000\u0015\u0016\u0001\u0000"+
-		"\u0000\u0000\u0016\u0017\u0001\u0000\u0000\u0000\u0017\u0018\u0005\u0000"+
-		"\u0000\u0001\u0018\u0001\u0001\u0000\u0000\u0000\u0019\u001a\u0003\u0004"+
-		"\u0002\u0000\u001a\u001b\u0005\u0004\u0000\u0000\u001b\u001d\u0001\u0000"+
-		"\u0000\u0000\u001c\u0019\u0001\u0000\u0000\u0000\u001c\u001d\u0001\u0000"+
-		"\u0000\u0000\u001d\u001e\u0001\u0000\u0000\u0000\u001e \u0003\u000e\u0007"+
-		"\u0000\u001f!\u0003\u0010\b\u0000 \u001f\u0001\u0000\u0000\u0000 !\u0001"+
-		"\u0000\u0000\u0000!\"\u0001\u0000\u0000\u0000\"#\u0005\u0007\u0000\u0000"+
-		"#\u0003\u0001\u0000\u0000\u0000$\'\u0003\u0006\u0003\u0000%&\u0005\u0004"+
-		"\u0000\u0000&(\u0005\u0003\u0000\u0000\'%\u0001\u0000\u0000\u0000\'(\u0001"+
-		"\u0000\u0000\u0000(\u0005\u0001\u0000\u0000\u0000)-\u0003\b\u0004\u0000"+
-		"*-\u0003\n\u0005\u0000+-\u0003\f\u0006\u0000,)\u0001\u0000\u0000\u0000"+
-		",*\u0001\u0000\u0000\u0000,+\u0001\u0000\u0000\u0000-\u0007\u0001\u0000"+
-		"\u0000\u0000./\u0005\u0005\u0000\u0000/\t\u0001\u0000\u0000\u000001\u0005"+
-		"\u0005\u0000\u000013\u0005\u0004\u0000\u000020\u0001\u0000\u0000\u0000"+
-		"23\u0001\u0000\u0000\u000034\u0001\u0000\u0000\u000046\u0005\u0005\u0000"+
-		"\u000057\u0007\u0000\u0000\u000065\u0001\u0000\u0000\u000078\u0001\u0000"+
-		"\u0000\u000086\u0001\u0000\u0000\u000089\u0001\u0000\u0000\u00009:\u0001"+
-		"\u0000\u0000\u0000:;\u0005\u0005\u0000\u0000;\u000b\u0001\u0000\u0000"+
-		"\u0000<?\u0003\b\u0004\u0000=?\u0003\n\u0005\u0000><\u0001\u0000\u0000"+
-		"\u0000>=\u0001\u0000\u0000\u0000?A\u0001\u0000\u0000\u0000@B\u0007\u0001"+
-		"\u0000\u0000A@\u0001\u0000\u0000\u0000BC\u0001\u0000\u0000\u0000CA\u0001"+
-		"\u0000\u0000\u0000CD\u0001\u0000\u0000\u0000DG\u0001\u0000\u0000\u0000"+
-		"EH\u0003\b\u0004\u0000FH\u0003\n\u0005\u0000GE\u0001\u0000\u0000\u0000"+
-		"GF\u0001\u0000\u0000\u0000H\r\u0001\u0000\u0000\u0000IK\u0007\u0002\u0000"+
-		"\u0000JI\u0001\u0000\u0000\u0000KN\u0001\u0000\u0000\u0000LM\u0001\u0000"+
-		"\u0000\u0000LJ\u0001\u0000\u0000\u0000MO\u0001\u0000\u0000\u0000NL\u0001"+
-		"\u0000\u0000\u0000OQ\u0005\u0003\u0000\u0000PR\u0005\u0004\u0000\u0000"+
-		"QP\u0001\u0000\u0000\u0000QR\u0001\u0000\u0000\u0000R\u000f\u0001\u0000"+
-		"\u0000\u0000SU\u0005\u0006\u0000\u0000TV\b\u0003\u0000\u0000UT\u0001\u0000"+
-		"\u0000\u0000VW\u0001\u0000\u0000\u0000WU\u0001\u0000\u0000\u0000WX\u0001"+
-		"\u0000\u0000\u0000X\u0011\u0001\u0000\u0000\u0000\r\u0015\u001c \',28"+
-		">CGLQW";
+		"\u0005\u0007\u0005\u0001\u0000\u0004\u0000\u000e\b\u0000\u000b\u0000\f"+
+		"\u0000\u000f\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0003\u0001\u0017\b\u0001\u0001\u0001\u0001\u0001\u0003\u0001\u001b\b"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0003\u0003$\b\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0005\u0003,\b\u0003\n\u0003"+
+		"\f\u0003/\t\u0003\u0001\u0004\u0001\u0004\u0004\u00043\b\u0004\u000b\u0004"+
+		"\f\u00044\u0001\u0005\u0001\u0005\u0001\u0005\u0000\u0000\u0006\u0000"+
+		"\u0002\u0004\u0006\b\n\u0000\u0003\u0001\u0000\u0012\u0014\u0001\u0000"+
+		"\u0016\u0016\u0001\u0000\u0001\u000f>\u0000\r\u0001\u0000\u0000\u0000"+
+		"\u0002\u0016\u0001\u0000\u0000\u0000\u0004\u001e\u0001\u0000\u0000\u0000"+
+		"\u0006#\u0001\u0000\u0000\u0000\b0\u0001\u0000\u0000\u0000\n6\u0001\u0000"+
+		"\u0000\u0000\f\u000e\u0003\u0002\u0001\u0000\r\f\u0001\u0000\u0000\u0000"+
+		"\u000e\u000f\u0001\u0000\u0000\u0000\u000f\r\u0001\u0000\u0000\u0000\u000f"+
+		"\u0010\u0001\u0000\u0000\u0000\u0010\u0011\u0001\u0000\u0000\u0000\u0011"+
+		"\u0012\u0005\u0000\u0000\u0001\u0012\u0001\u0001\u0000\u0000\u0000\u0013"+
+		"\u0014\u0003\u0004\u0002\u0000\u0014\u0015\u0005\u0011\u0000\u0000\u0015"+
+		"\u0017\u0001\u0000\u0000\u0000\u0016\u0013\u0001\u0000\u0000\u0000\u0016"+
+		"\u0017\u0001\u0000\u0000\u0000\u0017\u0018\u0001\u0000\u0000\u0000\u0018"+
+		"\u001a\u0003\u0006\u0003\u0000\u0019\u001b\u0003\b\u0004\u0000\u001a\u0019"+
+		"\u0001\u0000\u0000\u0000\u001a\u001b\u0001\u0000\u0000\u0000\u001b\u001c"+
+		"\u0001\u0000\u0000\u0000\u001c\u001d\u0005\u0016\u0000\u0000\u001d\u0003"+
+		"\u0001\u0000\u0000\u0000\u001e\u001f\u0007\u0000\u0000\u0000\u001f\u0005"+
+		"\u0001\u0000\u0000\u0000 $\u0005\u0010\u0000\u0000!$\u0003\n\u0005\u0000"+
+		"\"$\u0005\u0011\u0000\u0000# \u0001\u0000\u0000\u0000#!\u0001\u0000\u0000"+
+		"\u0000#\"\u0001\u0000\u0000\u0000$-\u0001\u0000\u0000\u0000%,\u0005\u0010"+
+		"\u0000\u0000&,\u0003\n\u0005\u0000\',\u0005\u0011\u0000\u0000(,\u0005"+
+		"\u0014\u0000\u0000),\u0005\u0012\u0000\u0000*,\u0005\u0013\u0000\u0000"+
+		"+%\u0001\u0000\u0000\u0000+&\u0001\u0000\u0000\u0000+\'\u0001\u0000\u0000"+
+		"\u0000+(\u0001\u0000\u0000\u0000+)\u0001\u0000\u0000\u0000+*\u0001\u0000"+
+		"\u0000\u0000,/\u0001\u0000\u0000\u0000-+\u0001\u0000\u0000\u0000-.\u0001"+
+		"\u0000\u0000\u0000.\u0007\u0001\u0000\u0000\u0000/-\u0001\u0000\u0000"+
+		"\u000002\u0005\u0015\u0000\u000013\b\u0001\u0000\u000021\u0001\u0000\u0000"+
+		"\u000034\u0001\u0000\u0000\u000042\u0001\u0000\u0000\u000045\u0001\u0000"+
+		"\u0000\u00005\t\u0001\u0000\u0000\u000067\u0007\u0002\u0000\u00007\u000b"+
+		"\u0001\u0000\u0000\u0000\u0007\u000f\u0016\u001a#+-4";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -22,36 +22,12 @@ public interface IngredientGrammarVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitIngredient(IngredientGrammarParser.IngredientContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link IngredientGrammarParser#measurement}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitMeasurement(IngredientGrammarParser.MeasurementContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link IngredientGrammarParser#quantity}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitQuantity(IngredientGrammarParser.QuantityContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link IngredientGrammarParser#decimal}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitDecimal(IngredientGrammarParser.DecimalContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link IngredientGrammarParser#fraction}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitFraction(IngredientGrammarParser.FractionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link IngredientGrammarParser#range}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitRange(IngredientGrammarParser.RangeContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link IngredientGrammarParser#name}.
 	 * @param ctx the parse tree
@@ -64,4 +40,10 @@ public interface IngredientGrammarVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitComment(IngredientGrammarParser.CommentContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link IngredientGrammarParser#unit}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitUnit(IngredientGrammarParser.UnitContext ctx);
 }
\ No newline at end of file
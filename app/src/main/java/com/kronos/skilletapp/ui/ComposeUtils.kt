@@ -17,6 +17,7 @@ import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.platform.LocalContext
 import androidx.compose.ui.unit.dp
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.data.SkilletError
 import com.kronos.skilletapp.data.UiState
 import com.kronos.skilletapp.model.Ingredient
@@ -32,6 +33,7 @@ import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.launch
 import org.koin.android.ext.koin.androidContext
 import org.koin.compose.KoinApplication
+import org.koin.core.module.dsl.singleOf
 import org.koin.dsl.module
 
 @OptIn(ExperimentalMaterialApi::class)
@@ -107,6 +109,8 @@ fun KoinPreview(
   val context = LocalContext.current
 
   val previewModule = module {
+    singleOf(::AlternativeMeasurements)
+
     factory<Recipe> {
       val ingredients = listOf(
         Ingredient("Mini Shells Pasta", measurement = Measurement(8f, MeasurementUnit.Ounce), "8 oz Mini Shells Pasta"),
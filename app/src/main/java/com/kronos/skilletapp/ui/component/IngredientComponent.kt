@@ -22,17 +22,15 @@ import androidx.compose.ui.tooling.preview.Preview
 import androidx.compose.ui.unit.Dp
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.model.Ingredient
 import com.kronos.skilletapp.model.measurement.Measurement
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
-import com.kronos.skilletapp.model.measurement.convertTo
-import com.kronos.skilletapp.model.measurement.hasSameDimensionAs
 import com.kronos.skilletapp.ui.dismiss
 import com.kronos.skilletapp.ui.theme.SkilletAppTheme
-import com.kronos.skilletapp.utils.Fraction
+import com.kronos.skilletapp.ui.viewmodel.IngredientDisplay
 import com.kronos.skilletapp.utils.modifier.applyIf
 import com.kronos.skilletapp.utils.modifier.applyUnless
-import com.kronos.skilletapp.utils.toFraction
 
 @Composable
 fun IngredientRow(
@@ -46,10 +44,29 @@ fun IngredientRow(
   onLongClick: () -> Unit = {},
   trailingIcon: @Composable (() -> Unit)? = null,
 ) {
-  val measurement = with(ingredient.measurement.scale(scale)) {
-    selectedUnit?.let { convertTo(it) } ?: normalized { it !is MeasurementUnit.FluidOunce }
-  }
+  val display = remember(ingredient, scale, selectedUnit) { IngredientDisplay.of(ingredient, scale, selectedUnit) }
+
+  IngredientRow(
+    display = display,
+    modifier = modifier,
+    enabled = enabled,
+    checked = checked,
+    onClick = onClick,
+    onLongClick = onLongClick,
+    trailingIcon = trailingIcon
+  )
+}
 
+@Composable
+fun IngredientRow(
+  display: IngredientDisplay,
+  modifier: Modifier = Modifier,
+  enabled: Boolean = true,
+  checked: Boolean = false,
+  onClick: () -> Unit = {},
+  onLongClick: () -> Unit = {},
+  trailingIcon: @Composable (() -> Unit)? = null,
+) {
   val bgColor by animateColorAsState(
     targetValue = if (checked) MaterialTheme.colorScheme.primary.copy(alpha = 0.2f) else Color.Transparent,
     animationSpec = if (checked) tween(durationMillis = 220, delayMillis = 120) else tween(durationMillis = 90),
@@ -63,7 +80,7 @@ fun IngredientRow(
       .background(bgColor, MaterialTheme.shapes.medium)
       .clip(MaterialTheme.shapes.medium)
       .then(modifier),
-    showDetail = measurement.quantity > 0 || checked,
+    showDetail = display.measurement.quantity > 0 || checked,
     detail = {
       AnimatedContent(
         targetState = checked,
@@ -80,26 +97,24 @@ fun IngredientRow(
             tint = MaterialTheme.colorScheme.onPrimary,
           )
         } else {
-          val quantity = measurement.displayQuantity
-
           Column(
             horizontalAlignment = Alignment.CenterHorizontally,
             verticalArrangement = Arrangement.SpaceAround,
             modifier = Modifier.align(Alignment.Center)
           ) {
             Text(
-              text = quantity,
+              text = display.quantity,
               color = MaterialTheme.colorScheme.onPrimary,
               fontSize = 18.sp,
               modifier = Modifier
-                .applyUnless(measurement.unit is MeasurementUnit.None) {
+                .applyUnless(display.unit == null) {
                   offset(y = 4.dp)
                 }
             )
 
-            if (measurement.unit !is MeasurementUnit.None) {
+            display.unit?.let {
               Text(
-                text = measurement.unit.abbreviation,
+                text = it,
                 color = MaterialTheme.colorScheme.onPrimary,
                 fontSize = 12.sp
               )
@@ -109,7 +124,7 @@ fun IngredientRow(
       }
 
     },
-    decoration = selectedUnit != null,
+    decoration = display.selectedUnit != null,
     enabled = enabled,
     onClick = onClick,
     onLongClick = onLongClick,
@@ -117,12 +132,12 @@ fun IngredientRow(
   ) {
     Column {
       Text(
-        text = ingredient.name.lowercase(),
+        text = display.ingredient.name.lowercase(),
         fontWeight = FontWeight.Bold,
         textDecoration = if (checked) TextDecoration.LineThrough else TextDecoration.None,
       )
 
-      ingredient.comment?.let {
+      display.ingredient.comment?.let {
         Text(
           text = it.lowercase(),
           color = MaterialTheme.colorScheme.secondary,
@@ -137,31 +152,22 @@ fun IngredientRow(
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
 fun IngredientListItem(
-  ingredient: Ingredient,
-  scale: Float,
-  selectedUnit: MeasurementUnit?,
+  display: IngredientDisplay,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   modifier: Modifier = Modifier,
   checked: Boolean = false,
   onCheckedChange: (Boolean) -> Unit = {},
   trailingIcon: @Composable (() -> Unit)? = null,
 ) {
-  val measurements = MeasurementUnit.values
-    .filter { it hasSameDimensionAs ingredient.measurement.unit }
-    .map { ingredient.measurement.convertTo(it).scale(scale) }
-    .filter { it.quantity.toFraction().roundToNearestFraction().reduce() > Fraction(1, 8) }
-
   var showBottomSheet by remember { mutableStateOf(false) }
 
   IngredientRow(
-    ingredient = ingredient,
+    display = display,
     modifier = modifier,
-    scale = scale,
-    selectedUnit = selectedUnit,
     checked = checked,
     onClick = { onCheckedChange(!checked) },
     onLongClick = {
-      if (measurements.isNotEmpty()) {
+      if (display.alternatives.isNotEmpty()) {
         showBottomSheet = true
       }
     },
@@ -175,12 +181,12 @@ fun IngredientListItem(
     UnitSelectionBottomSheet(
       onDismissRequest = { showBottomSheet = false },
       onUnitSelect = {
-        onUnitSelect(ingredient, it.takeIf { selectedUnit != it })
+        onUnitSelect(display.ingredient, it.takeIf { display.selectedUnit != it })
         sheetState.dismiss(scope) { showBottomSheet = false }
       },
-      ingredient = ingredient,
-      measurements = measurements,
-      selectedUnit = selectedUnit,
+      ingredient = display.ingredient,
+      measurements = display.alternatives,
+      selectedUnit = display.selectedUnit,
       sheetState = sheetState
     )
   }
@@ -189,40 +195,20 @@ fun IngredientListItem(
 @Composable
 @OptIn(ExperimentalMaterial3Api::class)
 fun IngredientPill(
-  ingredient: Ingredient,
-  scale: Float = 1f,
-//  selectedUnits: Map<Ingredient, MeasurementUnit?> = mapOf(),
-  selectedUnit: MeasurementUnit? = null,
+  display: IngredientDisplay,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit = { _, _ -> },
 ) {
   var showBottomSheet by remember { mutableStateOf(false) }
 
-  val measurements = MeasurementUnit.values
-    .filter { it hasSameDimensionAs ingredient.measurement.unit }
-    .map { ingredient.measurement.convertTo(it).scale(scale) }
-    .filter { it.quantity.toFraction().roundToNearestFraction().reduce() > Fraction(1, 8) }
-
   val borderColor =
-    selectedUnit?.let { MaterialTheme.colorScheme.onSecondaryContainer } ?: MaterialTheme.colorScheme.primary
+    display.selectedUnit?.let { MaterialTheme.colorScheme.onSecondaryContainer } ?: MaterialTheme.colorScheme.primary
 
   ItemPill(
-    enabled = measurements.isNotEmpty(),
+    enabled = display.alternatives.isNotEmpty(),
     onClick = { showBottomSheet = true },
     borderColor = borderColor,
     leadingContent = {
-      if (ingredient.measurement.quantity > 0) {
-        val measurement = with(ingredient.measurement.scale(scale)) {
-          selectedUnit?.let { convertTo(it) } ?: normalized { it !is MeasurementUnit.FluidOunce }
-        }
-
-        val quantity = measurement.displayQuantity.let {
-          if (measurement.unit !is MeasurementUnit.None) {
-            "$it ${measurement.unit.abbreviation}"
-          } else {
-            it
-          }
-        }
-
+      if (display.ingredient.measurement.quantity > 0) {
         // TODO: this works for now, but it should use a custom layout to avoid recomposition
         var minWidth by remember { mutableStateOf(Dp.Unspecified) }
         val density = LocalDensity.current
@@ -238,7 +224,7 @@ fun IngredientPill(
             .fillMaxHeight()
         ) {
           Text(
-            text = quantity,
+            text = display.label,
             color = MaterialTheme.colorScheme.onPrimary,
             fontSize = 18.sp,
             modifier = Modifier
@@ -250,9 +236,9 @@ fun IngredientPill(
     }
   ) {
     Text(
-      text = ingredient.name,
+      text = display.ingredient.name,
       modifier = Modifier
-        .applyIf(ingredient.measurement.quantity <= 0) {
+        .applyIf(display.ingredient.measurement.quantity <= 0) {
           padding(start = 8.dp)
         }
         .padding(vertical = 8.dp)
@@ -266,18 +252,17 @@ fun IngredientPill(
     UnitSelectionBottomSheet(
       onDismissRequest = { showBottomSheet = false },
       onUnitSelect = {
-        onUnitSelect(ingredient, it.takeIf { selectedUnit != it })
+        onUnitSelect(display.ingredient, it.takeIf { display.selectedUnit != it })
         sheetState.dismiss(scope) { showBottomSheet = false }
       },
-      ingredient = ingredient,
-      measurements = measurements,
-      selectedUnit = selectedUnit,
+      ingredient = display.ingredient,
+      measurements = display.alternatives,
+      selectedUnit = display.selectedUnit,
       sheetState = sheetState
     )
   }
 }
 
-
 @Preview
 @Composable
 private fun IngredientRowPreview() {
@@ -338,12 +323,17 @@ fun IngredientListItemPreview() {
     raw = "8 oz Pasta",
   )
 
+  val display = IngredientDisplay.of(
+    ingredient = ingredient,
+    scale = 1f,
+    selectedUnit = null,
+    alternatives = AlternativeMeasurements.compute(ingredient.measurement, 1f)
+  )
+
   SkilletAppTheme {
     Surface {
       IngredientListItem(
-        ingredient = ingredient,
-        scale = 1f,
-        selectedUnit = null,
+        display = display,
         onUnitSelect = { _, _ -> },
         trailingIcon = {
           IconButton(onClick = {}) {
@@ -364,11 +354,17 @@ private fun IngredientPillPreview() {
     raw = "8 oz Pasta",
   )
 
+  val display = IngredientDisplay.of(
+    ingredient = ingredient,
+    scale = 1f,
+    selectedUnit = null,
+    alternatives = AlternativeMeasurements.compute(ingredient.measurement, 1f)
+  )
+
   SkilletAppTheme {
     Surface {
       IngredientPill(
-        ingredient = ingredient,
-        scale = 1f,
+        display = display,
       )
     }
   }
@@ -384,11 +380,17 @@ fun IngredientPillNoQuantityPreview() {
     comment = "to taste"
   )
 
+  val display = IngredientDisplay.of(
+    ingredient = ingredient,
+    scale = 1f,
+    selectedUnit = null,
+    alternatives = AlternativeMeasurements.compute(ingredient.measurement, 1f)
+  )
+
   SkilletAppTheme {
     Surface {
       IngredientPill(
-        ingredient = ingredient,
-        scale = 1f,
+        display = display,
       )
     }
   }
@@ -403,11 +405,17 @@ fun IngredientPillNoMeasurementPreview() {
     raw = "Pepe",
   )
 
+  val display = IngredientDisplay.of(
+    ingredient = ingredient,
+    scale = 1f,
+    selectedUnit = null,
+    alternatives = AlternativeMeasurements.compute(ingredient.measurement, 1f)
+  )
+
   SkilletAppTheme {
     Surface {
       IngredientPill(
-        ingredient = ingredient,
-        scale = 1f,
+        display = display,
       )
     }
   }
@@ -44,13 +44,17 @@ import androidx.compose.ui.unit.Dp
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
+import com.github.michaelbull.result.coroutines.runSuspendCatching
+import com.github.michaelbull.result.getOrElse
 import com.github.michaelbull.result.onFailure
 import com.github.michaelbull.result.onSuccess
 import com.github.michaelbull.result.runCatching
 import com.kronos.skilletapp.model.*
 import com.kronos.skilletapp.model.measurement.Measurement
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.model.measurement.noFluidOunces
 import com.kronos.skilletapp.parser.IngredientParser
+import com.kronos.skilletapp.parser.ParseSession
 import com.kronos.skilletapp.ui.DisableRipple
 import com.kronos.skilletapp.ui.KoinPreview
 import com.kronos.skilletapp.ui.LoadingContent
@@ -816,6 +820,19 @@ private fun IngredientsContent(
       if (!reordering) {
         item(key = "Ingredient Input") {
           var ingredientInput by remember { mutableStateOf("") }
+          val session = remember(parser) { ParseSession(parser) }
+          var preview by remember { mutableStateOf(emptyList<Ingredient>()) }
+          // Done is ignored while a pasted list is being added, so it's never added twice
+          var addingPasted by remember { mutableStateOf(false) }
+
+          // Only the lines that changed since the last keystroke are parsed again, and an update cancelled by the next
+          // keystroke rethrows instead of clearing the preview
+          LaunchedEffect(ingredientInput) {
+            preview = when {
+              ingredientInput.contains("\n") -> runSuspendCatching { session.update(ingredientInput) }.getOrElse { emptyList() }
+              else -> emptyList()
+            }
+          }
 
           //TODO: find some sort of onPaste callback
           OutlinedTextField(
@@ -824,7 +841,17 @@ private fun IngredientsContent(
             modifier = Modifier
               .fillMaxWidth()
               .animateItem(),
+            readOnly = addingPasted,
             placeholder = { Text(text = "Add an ingredient") },
+            supportingText = if (preview.isNotEmpty()) {
+              {
+                Text(
+                  text = "${preview.size} ingredients: ${preview.joinToString { it.name.trim() }}",
+                  maxLines = 2,
+                  overflow = TextOverflow.Ellipsis,
+                )
+              }
+            } else null,
             trailingIcon = {
               if (ingredientInput.isNotBlank()) {
                 IconButton(
@@ -841,17 +868,27 @@ private fun IngredientsContent(
             keyboardActions = KeyboardActions(
               onDone = {
                 // TODO: parse multiple ingredients when a list is pasted in
-                if (ingredientInput.isNotBlank()) {
+                if (ingredientInput.isNotBlank() && !addingPasted) {
                   if (ingredientInput.contains("\n")) {
-                    runCatching { parser.parseIngredients(ingredientInput) }
-                      .onSuccess { newIngredients ->
-                        newIngredients.forEach { onIngredientChanged(it) }
-                        ingredientInput = ""
-                        scope.launch { lazyListState.animateScrollToItem(ingredients.size) }
-                      }
-                      .onFailure {
-                        onUserMessage("Failed to parse ingredients: ${it.message}")
+                    val pasted = ingredientInput
+                    addingPasted = true
+                    scope.launch {
+                      try {
+                        runSuspendCatching { session.update(pasted) }
+                          .onSuccess { newIngredients ->
+                            newIngredients.forEach { onIngredientChanged(it) }
+                            // Pasting the same lines again has to give new ingredients, not the ones just added
+                            session.clear()
+                            ingredientInput = ""
+                            lazyListState.animateScrollToItem(ingredients.size)
+                          }
+                          .onFailure {
+                            onUserMessage("Failed to parse ingredients: ${it.message}")
+                          }
+                      } finally {
+                        addingPasted = false
                       }
+                    }
                   } else {
                     runCatching { parser.parseIngredient(ingredientInput) }
                       .onSuccess {
@@ -1352,7 +1389,7 @@ fun InstructionComponent(
 
 @Composable
 private fun IngredientQuantity(ingredient: Ingredient) {
-  val measurement = ingredient.measurement.normalized { it !is MeasurementUnit.FluidOunce}
+  val measurement = ingredient.measurement.normalized(noFluidOunces)
 
   val quantity = measurement.displayQuantity.let {
     if (ingredient.measurement.unit !is MeasurementUnit.None) {
@@ -18,7 +18,6 @@ import androidx.compose.ui.tooling.preview.Preview
 import androidx.compose.ui.unit.dp
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
 import com.kronos.skilletapp.model.Ingredient
-import com.kronos.skilletapp.model.Instruction
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
 import com.kronos.skilletapp.model.Recipe
 import com.kronos.skilletapp.ui.LoadingContent
@@ -26,6 +25,8 @@ import com.kronos.skilletapp.ui.KoinPreview
 import com.kronos.skilletapp.ui.component.IngredientListItem
 import com.kronos.skilletapp.ui.theme.SkilletAppTheme
 import com.kronos.skilletapp.ui.viewmodel.CookingViewModel
+import com.kronos.skilletapp.ui.viewmodel.InstructionDisplay
+import com.kronos.skilletapp.ui.viewmodel.RecipeDisplayModel
 import org.koin.androidx.compose.koinViewModel
 import org.koin.compose.koinInject
 
@@ -56,7 +57,7 @@ fun CookingScreen(
   vm: CookingViewModel = koinViewModel(),
 ) {
   val recipeState by vm.recipeState.collectAsStateWithLifecycle()
-  val uiState by vm.uiState.collectAsStateWithLifecycle()
+  val displayModel by vm.displayModel.collectAsStateWithLifecycle()
 
   LoadingContent(
     state = recipeState,
@@ -75,16 +76,16 @@ fun CookingScreen(
         )
       }
     ) { paddingValues ->
-      CookingContent(
-        recipe = recipe,
-        scale = uiState.scale,
-        selectedUnits = uiState.selectedUnits,
-        onUnitSelect = vm::selectUnit,
-        onBack = onBack,
-        modifier = Modifier
-          .fillMaxSize()
-          .padding(paddingValues),
-      )
+      displayModel?.takeIf { it.recipe.id == recipe.id }?.let { display ->
+        CookingContent(
+          display = display,
+          onUnitSelect = vm::selectUnit,
+          onBack = onBack,
+          modifier = Modifier
+            .fillMaxSize()
+            .padding(paddingValues),
+        )
+      }
     }
   }
 }
@@ -92,13 +93,12 @@ fun CookingScreen(
 @OptIn(ExperimentalMaterial3Api::class, ExperimentalFoundationApi::class)
 @Composable
 fun CookingContent(
-  recipe: Recipe,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  display: RecipeDisplayModel,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   onBack: () -> Unit,
   modifier: Modifier = Modifier,
 ) {
+  val recipe = display.recipe
   var tab: CookingContentTab by remember { mutableStateOf(CookingContentTab.Overview) }
   val pagerState = rememberPagerState { recipe.instructions.size + 2 }
 
@@ -154,17 +154,13 @@ fun CookingContent(
         ) {
           when (page) {
             CookingContentTab.Overview -> OverviewTabContent(
-              recipe = recipe,
-              scale = scale,
-              selectedUnits = selectedUnits,
+              display = display,
               onUnitSelect = onUnitSelect
             )
 
             is CookingContentTab.Instruction -> InstructionTabContent(
               index = page.instruction,
-              instruction = recipe.instructions[page.instruction],
-              scale = scale,
-              selectedUnits = selectedUnits,
+              instruction = display.instructions[page.instruction],
               onUnitSelect = onUnitSelect
             )
 
@@ -188,12 +184,12 @@ fun CookingContent(
 @OptIn(ExperimentalFoundationApi::class)
 @Composable
 fun OverviewTabContent(
-  recipe: Recipe,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  display: RecipeDisplayModel,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   modifier: Modifier = Modifier,
 ) {
+  val recipe = display.recipe
+
   Column(
     verticalArrangement = Arrangement.spacedBy(8.dp),
     horizontalAlignment = Alignment.CenterHorizontally,
@@ -223,15 +219,13 @@ fun OverviewTabContent(
         }
 
         items(
-          items = recipe.ingredients,
-          key = { it.id }
+          items = display.ingredients,
+          key = { it.ingredient.id }
         ) { ingredient ->
           var checked by rememberSaveable { mutableStateOf(false) }
 
           IngredientListItem(
-            ingredient = ingredient,
-            scale = scale,
-            selectedUnit = selectedUnits[ingredient],
+            display = ingredient,
             onUnitSelect = onUnitSelect,
             checked = checked,
             onCheckedChange = { checked = it },
@@ -263,9 +257,7 @@ fun OverviewTabContent(
 @Composable
 fun InstructionTabContent(
   index: Int,
-  instruction: Instruction,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  instruction: InstructionDisplay,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   modifier: Modifier = Modifier,
 ) {
@@ -278,7 +270,7 @@ fun InstructionTabContent(
   ) {
     item {
       Text(
-        text = instruction.text,
+        text = instruction.instruction.text,
         style = MaterialTheme.typography.headlineSmall,
         modifier = Modifier
           .fillMaxWidth()
@@ -301,14 +293,12 @@ fun InstructionTabContent(
 
       items(
         items = instruction.ingredients,
-        key = { it.id }
+        key = { it.ingredient.id }
       ) { ingredient ->
         var checked by rememberSaveable { mutableStateOf(false) }
 
         IngredientListItem(
-          ingredient = ingredient,
-          scale = scale,
-          selectedUnit = selectedUnits[ingredient],
+          display = ingredient,
           onUnitSelect = onUnitSelect,
           checked = checked,
           onCheckedChange = { checked = it },
@@ -370,13 +360,12 @@ fun OverviewContentPreview() {
     val recipe = koinInject<Recipe>()
 
     val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
+    val display = RecipeDisplayModel.build(recipe, 1f, selectedUnits, koinInject())
 
     SkilletAppTheme {
       Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
         OverviewTabContent(
-          recipe = recipe,
-          scale = 1f,
-          selectedUnits = selectedUnits,
+          display = display,
           onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
         )
       }
@@ -391,14 +380,13 @@ fun InstructionContentPreview() {
     val recipe = koinInject<Recipe>()
 
     val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
+    val display = RecipeDisplayModel.build(recipe, 1f, selectedUnits, koinInject())
 
     SkilletAppTheme {
       Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
         InstructionTabContent(
           index = 0,
-          instruction = recipe.instructions.first(),
-          scale = 1f,
-          selectedUnits = selectedUnits,
+          instruction = display.instructions.first(),
           onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
         )
       }
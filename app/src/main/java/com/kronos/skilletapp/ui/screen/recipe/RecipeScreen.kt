@@ -36,6 +36,7 @@ import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.tooling.preview.Preview
 import androidx.compose.ui.unit.dp
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.model.*
 import com.kronos.skilletapp.model.measurement.Measurement
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
@@ -48,6 +49,9 @@ import com.kronos.skilletapp.ui.component.IngredientPill
 import com.kronos.skilletapp.ui.icon.SkilletIcons
 import com.kronos.skilletapp.ui.icon.filled.Skillet
 import com.kronos.skilletapp.ui.theme.SkilletAppTheme
+import com.kronos.skilletapp.ui.viewmodel.IngredientDisplay
+import com.kronos.skilletapp.ui.viewmodel.InstructionDisplay
+import com.kronos.skilletapp.ui.viewmodel.RecipeDisplayModel
 import com.kronos.skilletapp.ui.viewmodel.RecipeViewModel
 import org.koin.androidx.compose.koinViewModel
 import org.koin.compose.koinInject
@@ -69,6 +73,7 @@ fun RecipeScreen(
 ) {
   val recipeState by vm.recipeState.collectAsStateWithLifecycle()
   val uiState by vm.uiState.collectAsStateWithLifecycle()
+  val displayModel by vm.displayModel.collectAsStateWithLifecycle()
 
   val pagerState = rememberPagerState { RecipeContentTab.entries.size }
   val fabTransitionState = remember { MutableTransitionState(false).apply { targetState = true } }
@@ -131,19 +136,20 @@ fun RecipeScreen(
         .fillMaxSize()
         .padding(paddingValues),
     ) { recipe ->
-      RecipeContent(
-        recipe = recipe,
-        scale = uiState.scale,
-        servings = uiState.servings,
-        selectedUnits = uiState.selectedUnits,
-        onScalingChanged = vm::setScaling,
-        onUnitSelect = vm::selectUnit,
-        pagerState = pagerState,
-        ingredientListState = ingredientListState,
-        instructionsListState = instructionsListState,
-        modifier = Modifier
-          .fillMaxSize()
-      )
+      displayModel?.takeIf { it.recipe.id == recipe.id }?.let { display ->
+        RecipeContent(
+          display = display,
+          scale = uiState.scale,
+          servings = uiState.servings,
+          onScalingChanged = vm::setScaling,
+          onUnitSelect = vm::selectUnit,
+          pagerState = pagerState,
+          ingredientListState = ingredientListState,
+          instructionsListState = instructionsListState,
+          modifier = Modifier
+            .fillMaxSize()
+        )
+      }
     }
   }
 }
@@ -151,10 +157,9 @@ fun RecipeScreen(
 @OptIn(ExperimentalMaterial3Api::class, ExperimentalFoundationApi::class)
 @Composable
 private fun RecipeContent(
-  recipe: Recipe,
+  display: RecipeDisplayModel,
   scale: Float,
   servings: Int,
-  selectedUnits: Map<Ingredient, MeasurementUnit?> = emptyMap(),
   onScalingChanged: (scale: Float, servings: Int) -> Unit,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   pagerState: PagerState = rememberPagerState { RecipeContentTab.entries.size },
@@ -162,6 +167,7 @@ private fun RecipeContent(
   instructionsListState: LazyListState = rememberLazyListState(),
   modifier: Modifier = Modifier,
 ) {
+  val recipe = display.recipe
   var tab by remember { mutableStateOf(RecipeContentTab.Ingredients) }
 
   Box(
@@ -231,18 +237,14 @@ private fun RecipeContent(
         ) {
           when (page) {
             RecipeContentTab.Ingredients -> IngredientsList(
-              ingredients = recipe.ingredients,
-              scale = scale,
-              selectedUnits = selectedUnits,
+              ingredients = display.ingredients,
               onUnitSelect = onUnitSelect,
               listState = ingredientListState,
               listPadding = PaddingValues(start = 8.dp, end = 8.dp, top = 8.dp, bottom = 8.dp + FabPadding)
             )
 
             RecipeContentTab.Instructions -> InstructionsList(
-              instructions = recipe.instructions,
-              scale = scale,
-              selectedUnits = selectedUnits,
+              instructions = display.instructions,
               onUnitSelect = onUnitSelect,
               listState = instructionsListState,
               listPadding = PaddingValues(top = 8.dp, bottom = 8.dp + FabPadding)
@@ -351,9 +353,7 @@ private fun ScalingControls(
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
 private fun IngredientsList(
-  ingredients: List<Ingredient>,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  ingredients: List<IngredientDisplay>,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   listState: LazyListState = rememberLazyListState(),
   listPadding: PaddingValues = PaddingValues(horizontal = 8.dp, vertical = 8.dp),
@@ -376,12 +376,10 @@ private fun IngredientsList(
   ) {
     items(
       items = ingredients,
-      key = { it.id }
+      key = { it.ingredient.id }
     ) { ingredient ->
       IngredientListItem(
-        ingredient = ingredient,
-        scale = scale,
-        selectedUnit = selectedUnits[ingredient],
+        display = ingredient,
         onUnitSelect = onUnitSelect,
       )
     }
@@ -391,9 +389,7 @@ private fun IngredientsList(
 @OptIn(ExperimentalFoundationApi::class)
 @Composable
 private fun InstructionsList(
-  instructions: List<Instruction>,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  instructions: List<InstructionDisplay>,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
   listState: LazyListState = rememberLazyListState(),
   listPadding: PaddingValues = PaddingValues(vertical = 8.dp)
@@ -416,8 +412,6 @@ private fun InstructionsList(
       InstructionComponent(
         step = index + 1,
         instruction = instruction,
-        scale = scale,
-        selectedUnits = selectedUnits,
         onUnitSelect = onUnitSelect
       )
 
@@ -432,9 +426,7 @@ private fun InstructionsList(
 @Composable
 private fun InstructionComponent(
   step: Int,
-  instruction: Instruction,
-  scale: Float,
-  selectedUnits: Map<Ingredient, MeasurementUnit?>,
+  instruction: InstructionDisplay,
   onUnitSelect: (Ingredient, MeasurementUnit?) -> Unit,
 ) {
   Column(
@@ -452,7 +444,7 @@ private fun InstructionComponent(
     )
 
     Text(
-      text = instruction.text,
+      text = instruction.instruction.text,
       modifier = Modifier
     )
 
@@ -464,11 +456,9 @@ private fun InstructionComponent(
           .fillMaxWidth()
       ) {
         instruction.ingredients.forEach { ingredient ->
-          key(ingredient.id) {
+          key(ingredient.ingredient.id) {
             IngredientPill(
-              ingredient = ingredient,
-              scale = scale,
-              selectedUnit = selectedUnits[ingredient],
+              display = ingredient,
               onUnitSelect = onUnitSelect
             )
           }
@@ -495,11 +485,13 @@ private fun RecipeContentPreview() {
     var scale by remember { mutableFloatStateOf(1f) }
     var servings by remember { mutableIntStateOf(recipe.servings) }
 
+    val alternatives = koinInject<AlternativeMeasurements>()
+    val display = RecipeDisplayModel.build(recipe, scale, selectedUnits, alternatives)
+
     SkilletAppTheme {
       Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
         RecipeContent(
-          recipe = recipe,
-          selectedUnits = selectedUnits,
+          display = display,
           onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit },
           onScalingChanged = { newScale, newServings ->
             scale = newScale
@@ -516,16 +508,11 @@ private fun RecipeContentPreview() {
 @Preview(showBackground = true, device = "spec:parent=pixel_5")
 @Composable
 private fun IngredientsListEmptyPreview() {
-  val ingredients = emptyList<Ingredient>()
-  val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
-
   SkilletAppTheme {
     Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
       IngredientsList(
-        ingredients = ingredients,
-        scale = 1f,
-        selectedUnits = selectedUnits,
-        onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
+        ingredients = emptyList(),
+        onUnitSelect = { _, _ -> }
       )
     }
   }
@@ -536,14 +523,12 @@ private fun IngredientsListEmptyPreview() {
 private fun IngredientListPreview() {
   KoinPreview {
     val recipe = koinInject<Recipe>()
-    val ingredients = recipe.ingredients
     val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
+    val display = RecipeDisplayModel.build(recipe, 1f, selectedUnits, koinInject())
 
     Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
       IngredientsList(
-        ingredients = ingredients,
-        scale = 1f,
-        selectedUnits = selectedUnits,
+        ingredients = display.ingredients,
         onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
       )
     }
@@ -572,7 +557,7 @@ private fun IngredientComponentPreview() {
 private fun InstructionsListEmptyPreview() {
   SkilletAppTheme {
     Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
-      InstructionsList(instructions = emptyList(), scale = 1f, selectedUnits = emptyMap(), onUnitSelect = { _, _ -> })
+      InstructionsList(instructions = emptyList(), onUnitSelect = { _, _ -> })
     }
   }
 }
@@ -582,15 +567,13 @@ private fun InstructionsListEmptyPreview() {
 private fun InstructionsListPreview() {
   KoinPreview {
     val recipe = koinInject<Recipe>()
-    val instructions = recipe.instructions
     val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
+    val display = RecipeDisplayModel.build(recipe, 1f, selectedUnits, koinInject())
 
     SkilletAppTheme {
       Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
         InstructionsList(
-          instructions = instructions,
-          scale = 1f,
-          selectedUnits = selectedUnits,
+          instructions = display.instructions,
           onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
         )
       }
@@ -603,18 +586,16 @@ private fun InstructionsListPreview() {
 private fun InstructionComponentPreview() {
   KoinPreview {
     val recipe = koinInject<Recipe>()
-    val instructions = recipe.instructions
 
     val selectedUnits = remember { mutableStateMapOf<Ingredient, MeasurementUnit?>() }
+    val display = RecipeDisplayModel.build(recipe, 1f, selectedUnits, koinInject())
 
     SkilletAppTheme {
       Surface(modifier = Modifier.fillMaxSize(), color = MaterialTheme.colorScheme.background) {
         Box(modifier = Modifier.padding(16.dp)) {
           InstructionComponent(
             step = 1,
-            instruction = instructions.first(),
-            scale = 1f,
-            selectedUnits = selectedUnits,
+            instruction = display.instructions.first(),
             onUnitSelect = { ingredient, unit -> selectedUnits[ingredient] = unit }
           )
         }
@@ -11,15 +11,20 @@ import androidx.compose.foundation.text.KeyboardActions
 import androidx.compose.foundation.text.KeyboardOptions
 import androidx.compose.material.icons.Icons
 import androidx.compose.material.icons.filled.Add
+import androidx.compose.material.icons.filled.Check
 import androidx.compose.material.icons.filled.Close
 import androidx.compose.material.icons.filled.Link
 import androidx.compose.material.icons.filled.MoreVert
+import androidx.compose.material.icons.filled.Search
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
 import androidx.compose.runtime.saveable.rememberSaveable
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
+import androidx.compose.ui.focus.FocusRequester
+import androidx.compose.ui.focus.focusRequester
+import androidx.compose.ui.graphics.Color
 import androidx.compose.ui.platform.LocalSoftwareKeyboardController
 import androidx.compose.ui.text.input.ImeAction
 import androidx.compose.ui.text.input.KeyboardType
@@ -28,8 +33,13 @@ import androidx.compose.ui.tooling.preview.Preview
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
+import androidx.paging.LoadState
+import androidx.paging.PagingData
+import androidx.paging.compose.LazyPagingItems
+import androidx.paging.compose.collectAsLazyPagingItems
+import androidx.paging.compose.itemKey
 import com.kronos.skilletapp.data.RecipeRepository
-import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.RecipeSummary
 import com.kronos.skilletapp.ui.DisableRipple
 import com.kronos.skilletapp.ui.FabPadding
 import com.kronos.skilletapp.ui.KoinPreview
@@ -43,6 +53,7 @@ import com.leinardi.android.speeddial.compose.FabWithLabel
 import com.leinardi.android.speeddial.compose.SpeedDial
 import com.leinardi.android.speeddial.compose.SpeedDialOverlay
 import com.leinardi.android.speeddial.compose.SpeedDialState
+import kotlinx.coroutines.flow.flowOf
 import kotlinx.coroutines.runBlocking
 import org.koin.androidx.compose.koinViewModel
 import org.koin.compose.koinInject
@@ -59,19 +70,68 @@ fun RecipeListScreen(
   var overlayVisible by rememberSaveable { mutableStateOf(speedDialState.isExpanded()) }
 
   var showImportRecipeBottomSheet by rememberSaveable { mutableStateOf(false) }
+  var isSearching by rememberSaveable { mutableStateOf(vm.searchQuery.isNotEmpty()) }
+  var showSortMenu by remember { mutableStateOf(false) }
+  val sortType by vm.sortType.collectAsStateWithLifecycle()
 
   Scaffold(
     topBar = {
       TopAppBar(
-        title = { Text(text = "Recipes") },
+        title = {
+          if (isSearching) {
+            val focusRequester = remember { FocusRequester() }
+
+            TextField(
+              value = vm.searchQuery,
+              onValueChange = { vm.searchQuery = it },
+              placeholder = { Text(text = "Search recipes") },
+              singleLine = true,
+              colors = TextFieldDefaults.colors(
+                focusedContainerColor = Color.Transparent,
+                unfocusedContainerColor = Color.Transparent,
+              ),
+              modifier = Modifier
+                .fillMaxWidth()
+                .focusRequester(focusRequester)
+            )
+
+            LaunchedEffect(Unit) {
+              focusRequester.requestFocus()
+            }
+          } else {
+            Text(text = "Recipes")
+          }
+        },
         actions = {
-          //TODO: Implement search
-//          IconButton(onClick = { /*TODO*/ }) {
-//            Icon(imageVector = Icons.Default.Search, contentDescription = "Search")
-//          }
+          if (isSearching) {
+            IconButton(
+              onClick = {
+                isSearching = false
+                vm.searchQuery = ""
+              }
+            ) {
+              Icon(imageVector = Icons.Default.Close, contentDescription = "Close Search")
+            }
+          } else {
+            IconButton(onClick = { isSearching = true }) {
+              Icon(imageVector = Icons.Default.Search, contentDescription = "Search")
+            }
+          }
+
+          Box {
+            IconButton(onClick = { showSortMenu = true }) {
+              Icon(Icons.Default.MoreVert, contentDescription = "More Options")
+            }
 
-          IconButton(onClick = { /*TODO*/ }) {
-            Icon(Icons.Default.MoreVert, contentDescription = "More Options")
+            SortMenu(
+              expanded = showSortMenu,
+              selected = sortType,
+              onSelect = {
+                vm.setSortType(it)
+                showSortMenu = false
+              },
+              onDismiss = { showSortMenu = false }
+            )
           }
         }
       )
@@ -123,27 +183,41 @@ fun RecipeListScreen(
     floatingActionButtonPosition = FabPosition.End,
   ) { padding ->
     val uiState by vm.uiState.collectAsStateWithLifecycle()
+    val recipes = vm.recipes.collectAsLazyPagingItems()
+    val searchResults by vm.searchResults.collectAsStateWithLifecycle()
 
     LoadingContent(
       state = uiState,
       modifier = Modifier
         .fillMaxSize()
 //        .padding(padding)
-    ) { data ->
-      RecipeListContent(
-        recipes = data.recipes,
-        onRecipeClick = onRecipeClick,
-        modifier = Modifier
-          .fillMaxSize(),
-//          .padding(padding)
-        gridPadding = PaddingValues(
-          start = 8.dp,
-          end = 8.dp,
-          top = padding.calculateTopPadding() + 8.dp,
-          bottom = padding.calculateBottomPadding() + FabPadding
-        )
+    ) { _ ->
+      val gridPadding = PaddingValues(
+        start = 8.dp,
+        end = 8.dp,
+        top = padding.calculateTopPadding() + 8.dp,
+        bottom = padding.calculateBottomPadding() + FabPadding
       )
 
+      when (val results = searchResults) {
+        null -> RecipeListContent(
+          recipes = recipes,
+          onRecipeClick = onRecipeClick,
+          modifier = Modifier
+            .fillMaxSize(),
+//            .padding(padding)
+          gridPadding = gridPadding
+        )
+
+        else -> SearchResultsContent(
+          results = results,
+          onRecipeClick = onRecipeClick,
+          modifier = Modifier
+            .fillMaxSize(),
+          gridPadding = gridPadding
+        )
+      }
+
       DisableRipple {
         SpeedDialOverlay(
           visible = overlayVisible,
@@ -226,12 +300,21 @@ fun RecipeListScreen(
 
 @Composable
 private fun RecipeListContent(
-  recipes: List<Recipe>,
+  recipes: LazyPagingItems<RecipeSummary>,
   onRecipeClick: (id: String) -> Unit,
   modifier: Modifier = Modifier,
   gridPadding: PaddingValues = PaddingValues(8.dp),
 ) {
-  if (recipes.isEmpty()) {
+  val refresh = recipes.loadState.refresh
+
+  if (refresh is LoadState.Error) {
+    Box(modifier = modifier, contentAlignment = Alignment.Center) {
+      Text(text = "Error loading recipes", color = MaterialTheme.colorScheme.error)
+    }
+    return
+  }
+
+  if (recipes.itemCount == 0 && refresh is LoadState.NotLoading) {
     Box(modifier = modifier, contentAlignment = Alignment.Center) {
       Text(text = "No Recipes", color = MaterialTheme.colorScheme.secondary)
     }
@@ -245,7 +328,44 @@ private fun RecipeListContent(
     contentPadding = gridPadding,
     modifier = modifier
   ) {
-    items(recipes) { recipe ->
+    items(
+      count = recipes.itemCount,
+      key = recipes.itemKey { it.id },
+    ) { index ->
+      when (val recipe = recipes[index]) {
+        null -> RecipeCardPlaceholder()
+        else -> RecipeCard(
+          recipe = recipe,
+          onClick = { onRecipeClick(recipe.id) },
+          modifier = Modifier
+        )
+      }
+    }
+  }
+}
+
+@Composable
+private fun SearchResultsContent(
+  results: List<RecipeSummary>,
+  onRecipeClick: (id: String) -> Unit,
+  modifier: Modifier = Modifier,
+  gridPadding: PaddingValues = PaddingValues(8.dp),
+) {
+  if (results.isEmpty()) {
+    Box(modifier = modifier, contentAlignment = Alignment.Center) {
+      Text(text = "No Matching Recipes", color = MaterialTheme.colorScheme.secondary)
+    }
+    return
+  }
+
+  LazyVerticalGrid(
+    columns = GridCells.Fixed(2),
+    verticalArrangement = Arrangement.spacedBy(8.dp),
+    horizontalArrangement = Arrangement.spacedBy(8.dp),
+    contentPadding = gridPadding,
+    modifier = modifier
+  ) {
+    items(results, key = { it.id }) { recipe ->
       RecipeCard(
         recipe = recipe,
         onClick = { onRecipeClick(recipe.id) },
@@ -255,9 +375,39 @@ private fun RecipeListContent(
   }
 }
 
+@Composable
+private fun SortMenu(
+  expanded: Boolean,
+  selected: RecipesSortType,
+  onSelect: (RecipesSortType) -> Unit,
+  onDismiss: () -> Unit,
+) {
+  DropdownMenu(expanded = expanded, onDismissRequest = onDismiss) {
+    RecipesSortType.entries.forEach { sortType ->
+      DropdownMenuItem(
+        text = {
+          Text(
+            text = when (sortType) {
+              RecipesSortType.NAME -> "Sort by Name"
+              RecipesSortType.DATE -> "Sort by Date Added"
+              RecipesSortType.RATING -> "Sort by Rating"
+            }
+          )
+        },
+        onClick = { onSelect(sortType) },
+        trailingIcon = {
+          if (sortType == selected) {
+            Icon(imageVector = Icons.Default.Check, contentDescription = "Selected")
+          }
+        }
+      )
+    }
+  }
+}
+
 @Composable
 fun RecipeCard(
-  recipe: Recipe,
+  recipe: RecipeSummary,
   onClick: () -> Unit,
   modifier: Modifier = Modifier,
 ) {
@@ -299,6 +449,18 @@ fun RecipeCard(
   }
 }
 
+// Stands in for a recipe whose page hasn't loaded yet
+@Composable
+fun RecipeCardPlaceholder(
+  modifier: Modifier = Modifier,
+) {
+  Card(
+    modifier = modifier
+      .fillMaxWidth()
+      .aspectRatio(1f)
+  ) {}
+}
+
 /////////////////////////////////////////////////////
 /////////////////////////////////////////////////////
 //////////////////// PREVIEWS ///////////////////////
@@ -311,7 +473,7 @@ fun RecipeCardPreview() {
   KoinPreview {
 
     val repository = koinInject<RecipeRepository>()
-    val recipe = runBlocking { repository.fetchRecipe("test") }
+    val recipe = runBlocking { repository.fetchRecipeSummaries().first() }
 
     RecipeCard(
       recipe = recipe,
@@ -328,11 +490,11 @@ fun RecipeListPreview() {
   KoinPreview {
 
     val repository = koinInject<RecipeRepository>()
-    val recipes = runBlocking { repository.fetchRecipes() }
+    val recipes = runBlocking { repository.fetchRecipeSummaries() }
 
     Surface {
       RecipeListContent(
-        recipes = recipes,
+        recipes = flowOf(PagingData.from(recipes)).collectAsLazyPagingItems(),
         onRecipeClick = { },
         modifier = Modifier
           .fillMaxSize(),
@@ -354,7 +354,7 @@ class AddEditRecipeViewModel(
               cookTime = it.recipe.cookTime.parseMinutes(),
               source = url,
               sourceName = it.website?.name ?: """(\w+\.?)+\.\w+""".toRegex().find(url)?.value ?: "",
-              ingredients = it.recipe.ingredients.map { recipeParser.parseIngredient(text = it) },
+              ingredients = recipeParser.parseAll(it.recipe.ingredients),
               instructions = it.recipe.instructions.map { Instruction(text = it.text) },
               tharBeChanges = true
             )
@@ -383,7 +383,7 @@ class AddEditRecipeViewModel(
     }
   }
 
-  private fun RecipeScrape.toRecipeState() = RecipeState(
+  private suspend fun RecipeScrape.toRecipeState() = RecipeState(
     name = recipe.name,
     description = recipe.description,
 //              servings = """\d+""".toRegex().find(it.recipe.recipeYield)?.value?.toInt() ?: 0,
@@ -394,7 +394,7 @@ class AddEditRecipeViewModel(
     cookTime = recipe.prepTime.parseMinutes(),
     source = website?.url ?: "",
     sourceName = website?.name ?: "",
-    ingredients = recipe.ingredients.map { recipeParser.parseIngredient(text = it) },
+    ingredients = recipeParser.parseAll(recipe.ingredients),
     instructions = recipe.instructions.map { Instruction(text = it.text) }
   )
 
@@ -5,12 +5,14 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import androidx.navigation.toRoute
 import com.kronos.skilletapp.navigation.Route
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.data.RecipeRepository
 import com.kronos.skilletapp.data.SkilletError
 import com.kronos.skilletapp.data.UiState
 import com.kronos.skilletapp.model.Ingredient
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
 import com.kronos.skilletapp.model.Recipe
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.flow.*
 
 data class CookingUiState(
@@ -20,6 +22,7 @@ data class CookingUiState(
 
 class CookingViewModel(
   private val recipeRepository: RecipeRepository,
+  private val alternatives: AlternativeMeasurements,
   private val handle: SavedStateHandle
 ) : ViewModel() {
   private val args = handle.toRoute<Route.Cooking>()
@@ -52,6 +55,17 @@ class CookingViewModel(
     initialValue = UiState.Loading
   )
 
+  val displayModel = displayModels(
+    recipeState = recipeState,
+    scale = _uiState.map { it.scale },
+    selectedUnits = _uiState.map { it.selectedUnits },
+    alternatives = alternatives
+  ).flowOn(Dispatchers.Default).stateIn(
+    scope = viewModelScope,
+    started = SharingStarted.WhileSubscribed(5000L),
+    initialValue = null
+  )
+
   fun selectUnit(ingredient: Ingredient, unit: MeasurementUnit?) {
     _uiState.update {
       it.copy(selectedUnits = it.selectedUnits + (ingredient to unit))
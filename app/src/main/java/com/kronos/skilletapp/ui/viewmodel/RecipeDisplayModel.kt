@@ -0,0 +1,132 @@
+package com.kronos.skilletapp.ui.viewmodel
+
+import androidx.compose.runtime.Immutable
+import com.kronos.skilletapp.data.AlternativeMeasurements
+import com.kronos.skilletapp.data.UiState
+import com.kronos.skilletapp.model.Ingredient
+import com.kronos.skilletapp.model.Instruction
+import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.model.measurement.convertTo
+import com.kronos.skilletapp.model.measurement.noFluidOunces
+import kotlinx.coroutines.flow.*
+
+@Immutable
+data class IngredientDisplay(
+  val ingredient: Ingredient,
+  val scale: Float,
+  val selectedUnit: MeasurementUnit?,
+  val measurement: Measurement,
+  val quantity: String,
+  val unit: String?,
+  val alternatives: List<Measurement> = emptyList(),
+) {
+  val label: String
+    get() = unit?.let { "$quantity $it" } ?: quantity
+
+  companion object {
+    fun of(
+      ingredient: Ingredient,
+      scale: Float,
+      selectedUnit: MeasurementUnit?,
+      alternatives: List<Measurement> = emptyList(),
+    ): IngredientDisplay {
+      val measurement = with(ingredient.measurement.scale(scale)) {
+        selectedUnit?.let { convertTo(it) } ?: normalized(noFluidOunces)
+      }
+
+      return IngredientDisplay(
+        ingredient = ingredient,
+        scale = scale,
+        selectedUnit = selectedUnit,
+        measurement = measurement,
+        quantity = measurement.displayQuantity,
+        unit = measurement.unit.takeUnless { it is MeasurementUnit.None }?.abbreviation,
+        alternatives = alternatives,
+      )
+    }
+  }
+}
+
+@Immutable
+data class InstructionDisplay(
+  val instruction: Instruction,
+  val ingredients: List<IngredientDisplay>,
+)
+
+/**
+ * Everything the recipe and cooking screens show for a recipe at a given scale and set of selected units, so the
+ * composables only render strings.
+ *
+ * [build] reuses every row of the previous model whose ingredient, scale and selected unit didn't change, and every
+ * instruction whose rows were all reused, so selecting a unit only rebuilds that ingredient's rows.
+ */
+@Immutable
+data class RecipeDisplayModel(
+  val recipe: Recipe,
+  val scale: Float,
+  val ingredients: List<IngredientDisplay>,
+  val instructions: List<InstructionDisplay>,
+) {
+  companion object {
+    fun build(
+      recipe: Recipe,
+      scale: Float,
+      selectedUnits: Map<Ingredient, MeasurementUnit?>,
+      alternatives: AlternativeMeasurements,
+      previous: RecipeDisplayModel? = null,
+    ): RecipeDisplayModel {
+      val previousRows = previous?.rows().orEmpty()
+      val rows = HashMap<String, IngredientDisplay>()
+
+      fun rowOf(ingredient: Ingredient): IngredientDisplay {
+        val selectedUnit = selectedUnits[ingredient]
+        val matches = { row: IngredientDisplay ->
+          row.ingredient == ingredient && row.scale == scale && row.selectedUnit == selectedUnit
+        }
+
+        rows[ingredient.id]?.takeIf(matches)?.let { return it }
+
+        val row = previousRows[ingredient.id]?.takeIf(matches)
+          ?: IngredientDisplay.of(ingredient, scale, selectedUnit, alternatives.get(ingredient, scale))
+        rows.putIfAbsent(ingredient.id, row)
+        return row
+      }
+
+      val ingredients = recipe.ingredients.map(::rowOf)
+
+      val previousInstructions = previous?.instructions?.associateBy { it.instruction.id }.orEmpty()
+      val instructions = recipe.instructions.map { instruction ->
+        val ingredientRows = instruction.ingredients.map(::rowOf)
+        previousInstructions[instruction.id]
+          ?.takeIf { it.instruction == instruction && it.ingredients.indices.all { i -> it.ingredients[i] === ingredientRows[i] } }
+          ?: InstructionDisplay(instruction, ingredientRows)
+      }
+
+      return RecipeDisplayModel(recipe, scale, ingredients, instructions)
+    }
+
+    private fun RecipeDisplayModel.rows(): Map<String, IngredientDisplay> = buildMap {
+      ingredients.forEach { put(it.ingredient.id, it) }
+      instructions.forEach { instruction -> instruction.ingredients.forEach { putIfAbsent(it.ingredient.id, it) } }
+    }
+  }
+}
+
+// Rebuilds the display model whenever the recipe, scale or selected units change, reusing whatever it can
+fun displayModels(
+  recipeState: Flow<UiState<Recipe>>,
+  scale: Flow<Float>,
+  selectedUnits: Flow<Map<Ingredient, MeasurementUnit?>>,
+  alternatives: AlternativeMeasurements,
+): Flow<RecipeDisplayModel?> = combine(
+  recipeState.map { (it as? UiState.LoadedWithData)?.data },
+  scale,
+  selectedUnits,
+  ::Triple
+)
+  .distinctUntilChanged()
+  .scan(null as RecipeDisplayModel?) { previous, (recipe, scale, selectedUnits) ->
+    recipe?.let { RecipeDisplayModel.build(it, scale, selectedUnits, alternatives, previous) }
+  }
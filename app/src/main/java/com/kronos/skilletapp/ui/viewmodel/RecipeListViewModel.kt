@@ -1,29 +1,32 @@
 package com.kronos.skilletapp.ui.viewmodel
 
-import android.util.Log
 import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.snapshotFlow
 import androidx.lifecycle.SavedStateHandle
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import androidx.lifecycle.viewmodel.compose.SavedStateHandleSaveableApi
 import androidx.lifecycle.viewmodel.compose.saveable
 import androidx.navigation.toRoute
+import androidx.paging.PagingData
+import androidx.paging.cachedIn
 import com.kronos.skilletapp.navigation.Route
 import com.kronos.skilletapp.navigation.SharedRecipe
 import com.kronos.skilletapp.data.RecipeRepository
-import com.kronos.skilletapp.data.SkilletError
 import com.kronos.skilletapp.data.UiState
-import com.kronos.skilletapp.model.Recipe
+import com.kronos.skilletapp.model.RecipeSummary
 import com.kronos.skilletapp.ui.saverOf
 import com.kronos.skilletapp.ui.screen.recipelist.RecipesSortType
 import com.kronos.skilletapp.utils.navTypeOf
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.FlowPreview
 import kotlinx.coroutines.flow.*
 import java.net.URLDecoder
 import java.nio.charset.StandardCharsets
 import kotlin.reflect.typeOf
 
 data class RecipeListState(
-  val recipes: List<Recipe>,
+  val sortType: RecipesSortType,
 )
 
 class RecipeListViewModel(
@@ -31,6 +34,7 @@ class RecipeListViewModel(
   private val handle: SavedStateHandle
 ) : ViewModel() {
   private val _savedSortType = handle.getStateFlow(RECIPES_SORT_TYPE_KEY, RecipesSortType.NAME)
+  val sortType: StateFlow<RecipesSortType> = _savedSortType
 
   private val args = handle.toRoute<Route.RecipeList>(typeMap = mapOf(typeOf<SharedRecipe?>() to navTypeOf<SharedRecipe?>(true)))
 
@@ -48,31 +52,38 @@ class RecipeListViewModel(
     mutableStateOf(true)
   }
 
+  @OptIn(SavedStateHandleSaveableApi::class)
+  var searchQuery by handle.saveable {
+    mutableStateOf("")
+  }
+
   private val _isLoading = MutableStateFlow(false)
-  private val _recipesAsync = recipeRepository.observeRecipes()
+
+  // Pages survive configuration changes, and a new sort type starts over from the first page
+  @OptIn(ExperimentalCoroutinesApi::class)
+  val recipes: Flow<PagingData<RecipeSummary>> = _savedSortType
+    .flatMapLatest { recipeRepository.pageRecipeSummaries(it) }
+    .cachedIn(viewModelScope)
+
+  // Null when there's no query, otherwise the ranked matches once typing pauses
+  @OptIn(FlowPreview::class, ExperimentalCoroutinesApi::class)
+  val searchResults: StateFlow<List<RecipeSummary>?> = snapshotFlow { searchQuery.trim() }
     .distinctUntilChanged()
-    .map { UiState.LoadedWithData(it) }
-    .catch<UiState<List<Recipe>>> {
-      Log.e("RecipeListViewModel", "Error loading recipes", it)
-      emit(UiState.Error(SkilletError("Error loading recipes")))
-    }
+    .debounce { if (it.isEmpty()) 0L else SEARCH_DEBOUNCE_MILLIS }
+    .flatMapLatest { if (it.isEmpty()) flowOf(null) else recipeRepository.searchRecipes(it) }
+    .stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000L), null)
 
-  val uiState = combine(_isLoading, _recipesAsync) { isLoading, recipesAsync ->
+  val uiState = combine(_isLoading, _savedSortType) { isLoading, sortType ->
     when {
       isLoading -> UiState.Loading
-      else -> when (recipesAsync) {
-        UiState.Loading -> UiState.Loading
-        is UiState.Error -> UiState.Error(recipesAsync.error)
-        is UiState.LoadedWithData -> UiState.LoadedWithData(
-          RecipeListState(
-            recipes = recipesAsync.data,
-          )
-        )
-
-        else -> UiState.Error(SkilletError("UiState.Loaded should not be used here"))
-      }
+      else -> UiState.LoadedWithData(RecipeListState(sortType = sortType))
     }
   }.stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000L), UiState.Loading)
+
+  fun setSortType(sortType: RecipesSortType) {
+    handle[RECIPES_SORT_TYPE_KEY] = sortType
+  }
 }
 
-const val RECIPES_SORT_TYPE_KEY = "RECIPES_SORT_TYPE_KEY"
\ No newline at end of file
+const val RECIPES_SORT_TYPE_KEY = "RECIPES_SORT_TYPE_KEY"
+private const val SEARCH_DEBOUNCE_MILLIS = 250L
\ No newline at end of file
@@ -5,12 +5,14 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
 import androidx.navigation.toRoute
 import com.kronos.skilletapp.navigation.Route
+import com.kronos.skilletapp.data.AlternativeMeasurements
 import com.kronos.skilletapp.data.RecipeRepository
 import com.kronos.skilletapp.data.SkilletError
 import com.kronos.skilletapp.data.UiState
 import com.kronos.skilletapp.model.Ingredient
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
 import com.kronos.skilletapp.model.Recipe
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.flow.*
 import kotlinx.coroutines.launch
 
@@ -22,6 +24,7 @@ data class RecipeUiState(
 
 class RecipeViewModel(
   private val recipeRepository: RecipeRepository,
+  private val alternatives: AlternativeMeasurements,
   private val handle: SavedStateHandle,
 ) : ViewModel() {
 
@@ -57,6 +60,17 @@ class RecipeViewModel(
     initialValue = UiState.Loading
   )
 
+  val displayModel = displayModels(
+    recipeState = recipeState,
+    scale = _uiState.map { it.scale },
+    selectedUnits = _uiState.map { it.selectedUnits },
+    alternatives = alternatives
+  ).flowOn(Dispatchers.Default).stateIn(
+    scope = viewModelScope,
+    started = SharingStarted.WhileSubscribed(5000L),
+    initialValue = null
+  )
+
   fun selectUnit(ingredient: Ingredient, unit: MeasurementUnit?) {
     _uiState.update {
       it.copy(selectedUnits = it.selectedUnits + (ingredient to unit))
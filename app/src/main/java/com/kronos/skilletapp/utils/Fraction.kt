@@ -21,7 +21,7 @@ data class Fraction(val numerator: Int, val denominator: Int) {
     Fraction(numerator + other.numerator, denominator)
   } else {
     val lcm = lcm(denominator, other.denominator)
-    Fraction(numerator * lcm + other.numerator * lcm, denominator * lcm)
+    Fraction(numerator * (lcm / denominator) + other.numerator * (lcm / other.denominator), lcm)
   }
 
   operator fun minus(other: Fraction): Fraction = this + (-other)
@@ -73,20 +73,22 @@ data class Fraction(val numerator: Int, val denominator: Int) {
     }
   }
 
-  private fun unicodeFractionString(numerator: Int, denominator: Int) = when(denominator) {
-    2 -> if (numerator == 1) "\u00BD" else simpleFractionString(numerator, denominator)
-    3 -> when(numerator) {
-      1 -> "\u2153"
-      2 -> "\u2154"
-      else -> simpleFractionString(numerator, denominator)
-    }
-    4 -> when(numerator) {
-      1 -> "\u00BC"
-      3 -> "\u00BE"
-      else -> simpleFractionString(numerator, denominator)
-    }
+  fun toRational(): Rational = Rational.of(numerator, denominator)
+}
+
+internal fun unicodeFractionString(numerator: Int, denominator: Int) = when(denominator) {
+  2 -> if (numerator == 1) "\u00BD" else simpleFractionString(numerator, denominator)
+  3 -> when(numerator) {
+    1 -> "\u2153"
+    2 -> "\u2154"
+    else -> simpleFractionString(numerator, denominator)
+  }
+  4 -> when(numerator) {
+    1 -> "\u00BC"
+    3 -> "\u00BE"
     else -> simpleFractionString(numerator, denominator)
   }
+  else -> simpleFractionString(numerator, denominator)
+}
 
-  private fun simpleFractionString(numerator: Int, denominator: Int) = "$numerator/$denominator"
-}
\ No newline at end of file
+internal fun simpleFractionString(numerator: Int, denominator: Int) = "$numerator/$denominator"
\ No newline at end of file
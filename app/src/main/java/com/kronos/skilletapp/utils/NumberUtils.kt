@@ -44,5 +44,7 @@ fun Double.roundToSignificantFigures(places: Int) = toBigDecimal().round(MathCon
 val ONE_EIGHTH = (BigDecimal(1) / BigDecimal(8)).setScale(3, RoundingMode.HALF_UP)
 
 fun gcd(a: Int, b: Int): Int = if (b == 0) a else gcd(b, a % b)
+tailrec fun gcd(a: Long, b: Long): Long = if (b == 0L) a else gcd(b, a % b)
 
-fun lcm(a: Int, b: Int): Int = a * b / gcd(a, b)
+fun lcm(a: Int, b: Int): Int = a / gcd(a, b) * b
+fun lcm(a: Long, b: Long): Long = a / gcd(a, b) * b
@@ -0,0 +1,119 @@
+package com.kronos.skilletapp.utils
+
+import kotlin.math.abs
+import kotlin.math.roundToInt
+
+/**
+ * An exact rational number packed into a single [Long], numerator in the high 32 bits and denominator in the low 32 bits.
+ *
+ * Values are always stored reduced with a positive denominator, so equality is structural and no caller has to reduce.
+ * Arithmetic is done in [Long] and throws [ArithmeticException] when the reduced result doesn't fit in an [Int].
+ */
+@JvmInline
+value class Rational private constructor(private val bits: Long) {
+  val numerator: Int
+    get() = (bits shr 32).toInt()
+
+  val denominator: Int
+    get() = bits.toInt()
+
+  val decimal: Float
+    get() = numerator.toFloat() / denominator
+
+  val whole: Int
+    get() = numerator / denominator
+
+  val subNumerator: Int
+    get() = numerator % denominator
+
+  fun toDouble(): Double = numerator.toDouble() / denominator
+
+  operator fun unaryMinus(): Rational = of(-numerator.toLong(), denominator.toLong())
+
+  operator fun plus(other: Rational): Rational {
+    if (denominator == other.denominator) return of(numerator.toLong() + other.numerator, denominator.toLong())
+
+    val lcm = lcm(denominator.toLong(), other.denominator.toLong())
+    return of(numerator * (lcm / denominator) + other.numerator * (lcm / other.denominator), lcm)
+  }
+
+  operator fun minus(other: Rational): Rational = this + (-other)
+
+  operator fun times(other: Rational): Rational = of(numerator.toLong() * other.numerator, denominator.toLong() * other.denominator)
+  operator fun times(other: Int): Rational = of(numerator.toLong() * other, denominator.toLong())
+
+  operator fun div(other: Rational): Rational = of(numerator.toLong() * other.denominator, denominator.toLong() * other.numerator)
+  operator fun div(other: Int): Rational = of(numerator.toLong(), denominator.toLong() * other)
+
+  operator fun compareTo(other: Rational): Int = (numerator.toLong() * other.denominator).compareTo(other.numerator.toLong() * denominator)
+  operator fun compareTo(other: Int): Int = numerator.toLong().compareTo(other.toLong() * denominator)
+
+  fun roundToEighth(): Rational = of(((numerator.toLong() * 8).toFloat() / denominator).roundToInt().toLong(), 8)
+
+  fun roundToThird(): Rational = of(((numerator.toLong() * 3).toFloat() / denominator).roundToInt().toLong(), 3)
+
+  fun roundToNearestFraction(): Rational {
+    val eighthDiff = abs(decimal - decimal.roundToEighth())
+    val thirdDiff = abs(decimal - decimal.roundToThird())
+    return if (eighthDiff < thirdDiff) {
+      roundToEighth()
+    } else {
+      roundToThird()
+    }
+  }
+
+  fun toFraction(): Fraction = Fraction(numerator, denominator)
+
+  override fun toString(): String = when {
+    numerator == 0 -> "0"
+    whole == 0 -> simpleFractionString(numerator, denominator)
+    subNumerator == 0 -> "$whole"
+    else -> "$whole ${simpleFractionString(subNumerator, denominator)}"
+  }
+
+  fun toDisplayString(): String = when {
+    numerator == 0 -> "0"
+    whole == 0 -> unicodeFractionString(numerator, denominator)
+    subNumerator == 0 -> "$whole"
+    else -> "$whole ${unicodeFractionString(subNumerator, denominator)}"
+  }
+
+  companion object {
+    val ZERO = of(0, 1)
+    val ONE = of(1, 1)
+
+    fun of(numerator: Int, denominator: Int): Rational = of(numerator.toLong(), denominator.toLong())
+
+    fun of(numerator: Long, denominator: Long): Rational {
+      if (denominator == 0L) throw ArithmeticException("Denominator cannot be zero")
+
+      val gcd = gcd(abs(numerator), abs(denominator)).let { if (denominator < 0) -it else it }
+      return pack(Math.toIntExact(numerator / gcd), Math.toIntExact(denominator / gcd))
+    }
+
+    /**
+     * Like [of], but never throws for a non-zero denominator. A value too precise to fit keeps only its whole part, and a
+     * whole part outside the [Int] range is clamped to it.
+     */
+    fun ofSaturated(numerator: Long, denominator: Long): Rational {
+      if (denominator == 0L) throw ArithmeticException("Denominator cannot be zero")
+
+      val gcd = gcd(abs(numerator), abs(denominator)).let { if (denominator < 0) -it else it }
+      val reducedNumerator = numerator / gcd
+      val reducedDenominator = denominator / gcd
+      if (reducedNumerator in Int.MIN_VALUE..Int.MAX_VALUE && reducedDenominator <= Int.MAX_VALUE) {
+        return pack(reducedNumerator.toInt(), reducedDenominator.toInt())
+      }
+
+      return pack((reducedNumerator / reducedDenominator).coerceIn(Int.MIN_VALUE.toLong(), Int.MAX_VALUE.toLong()).toInt(), 1)
+    }
+
+    private fun pack(numerator: Int, denominator: Int) = Rational((numerator.toLong() shl 32) or (denominator.toLong() and 0xFFFFFFFFL))
+  }
+}
+
+// Truncates to the given precision, the same way quantities have always been turned into fractions. NaN becomes zero and
+// quantities too large for an Int saturate, since these feed display code that has to render whatever a measurement holds.
+fun Float.toRational(precision: Int = 1000): Rational = Rational.ofSaturated((this * precision).toLong(), precision.toLong())
+
+fun Double.toRational(precision: Int = 1000): Rational = Rational.ofSaturated((this * precision).toLong(), precision.toLong())
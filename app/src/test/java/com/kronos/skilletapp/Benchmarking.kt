@@ -0,0 +1,44 @@
+package com.kronos.skilletapp
+
+import io.kotest.core.test.EnabledIf
+import java.lang.management.ManagementFactory
+import kotlin.math.roundToInt
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.nanoseconds
+import kotlin.time.DurationUnit
+
+// Benchmarks are skipped in the normal test run, set SKILLET_BENCHMARKS=1 to run them
+val benchmarksEnabled: EnabledIf = { System.getenv("SKILLET_BENCHMARKS") != null }
+
+data class BenchmarkResult(
+  val name: String,
+  val iterations: Int,
+  val total: Duration,
+  val allocatedBytes: Long,
+) {
+  val perIteration: Duration
+    get() = total / iterations
+
+  override fun toString(): String = "$name: $total total, $perIteration/op, ${allocatedBytes / 1024} KiB allocated over $iterations iterations"
+}
+
+private val threadBean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+
+fun currentThreadAllocatedBytes(): Long = threadBean.getThreadAllocatedBytes(Thread.currentThread().id)
+
+inline fun benchmark(name: String, iterations: Int, warmup: Int = iterations, block: () -> Unit): BenchmarkResult {
+  repeat(warmup) { block() }
+
+  val allocatedBefore = currentThreadAllocatedBytes()
+  val start = System.nanoTime()
+  repeat(iterations) { block() }
+  val elapsed = System.nanoTime() - start
+  val allocated = currentThreadAllocatedBytes() - allocatedBefore
+
+  return BenchmarkResult(name, iterations, elapsed.nanoseconds, allocated).also { println(it) }
+}
+
+fun BenchmarkResult.bytesPerSecond() = (allocatedBytes / total.toDouble(DurationUnit.SECONDS)).toLong()
+
+// Nearest-rank percentile, p in 0..1
+fun List<Duration>.percentile(p: Double): Duration = sorted()[((size - 1) * p).roundToInt()]
@@ -54,6 +54,20 @@ class FractionTests : FunSpec({
     }
   }
 
+  context("Addition") {
+    test("1/2 + 1/3") {
+      val f = (Fraction(1, 2) + Fraction(1, 3)).reduce()
+      f.numerator shouldBe 5
+      f.denominator shouldBe 6
+    }
+
+    test("3/4 + 1/6") {
+      val f = (Fraction(3, 4) + Fraction(1, 6)).reduce()
+      f.numerator shouldBe 11
+      f.denominator shouldBe 12
+    }
+  }
+
   context("From Double") {
     test("0.5f") {
       val f = 0.5f.toFraction()
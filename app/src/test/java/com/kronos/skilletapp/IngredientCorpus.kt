@@ -0,0 +1,50 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.model.Ingredient
+import kotlin.random.Random
+
+// Ingredient lines shaped like the ones scraped recipes produce, generated from a fixed seed so every run sees the same lines
+object IngredientCorpus {
+  private val quantities = listOf("1", "2", "3", "12", "1.5", "0.25", "1/2", "3/4", "1/3", "1 1/2", "2 3/4", "1-2", "2 to 3", "1/2-1")
+  private val units = listOf("cup", "cups", "c", "tsp", "teaspoon", "tbsp", "Tbsp", "T", "tablespoons", "oz", "ounces", "lb", "pound", "g", "grams", "kg", "ml", "mL", "l", "pinch", "dash", "quart", "pint", "gallon", "fl oz", "clove", "cloves", "can", "")
+  private val names = listOf("butter", "flour", "all-purpose flour", "salt", "kosher salt", "black pepper", "olive oil", "red onion", "garlic", "chicken broth", "milk", "heavy cream", "parmesan cheese", "brown sugar", "baking soda", "eggs", "fresh basil leaves")
+  private val comments = listOf("", ", chopped", ", thinly sliced", ", separated", " (softened)", " (about 2 cups)", ", to taste", ", divided, plus more for serving")
+  private val junk = listOf("For the sauce:", "salt and pepper to taste", "Optional", "1", "** see notes", "½ cup sugar", "2 × 3 inch pieces")
+
+  // The checked in corpus in test resources, by line shape
+  val shapes: Map<String, List<String>> by lazy {
+    val shapes = linkedMapOf<String, MutableList<String>>()
+    var lines = mutableListOf<String>()
+
+    IngredientCorpus::class.java.getResource("/ingredient-corpus.txt")!!.readText().lines().forEach { line ->
+      when {
+        line.startsWith("## ") -> lines = shapes.getOrPut(line.removePrefix("## ")) { mutableListOf() }
+        line.startsWith("#") || line.isEmpty() -> {}
+        else -> lines += line
+      }
+    }
+    shapes
+  }
+
+  fun lines(count: Int, seed: Int = 42): List<String> {
+    val random = Random(seed)
+    return List(count) {
+      if (random.nextInt(20) == 0) {
+        junk.random(random)
+      } else {
+        val unit = units.random(random).let { if (it.isEmpty()) "" else "$it " }
+        "${quantities.random(random)} $unit${names.random(random)}${comments.random(random)}"
+      }
+    }
+  }
+
+  // Short random strings over the characters the grammar treats specially, for finding lines two parsers disagree on
+  fun noise(count: Int, seed: Int = 42): List<String> {
+    val random = Random(seed)
+    val alphabet = "abcC -_\t,(./0123456789\n\r½"
+    return List(count) { String(CharArray(random.nextInt(1, 16)) { alphabet.random(random) }) }
+  }
+}
+
+// Everything but the id, which is random for every parse
+fun Ingredient.parsed() = listOf(name, measurement, comment, raw)
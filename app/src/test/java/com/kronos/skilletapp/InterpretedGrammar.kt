@@ -0,0 +1,39 @@
+package com.kronos.skilletapp
+
+import org.antlr.v4.runtime.CharStreams
+import org.antlr.v4.runtime.CommonTokenStream
+import org.antlr.v4.tool.Grammar
+import java.io.File
+
+/**
+ * Runs a grammar through the ANTLR interpreter instead of generated recognizers, so grammars that are no longer
+ * generated can still be compared against the current one.
+ *
+ * The interpreters are reused for every line, so their DFA cache warms up the same way the generated parser's does.
+ */
+class InterpretedGrammar(text: String, private val startRule: String = "ingredient") {
+  private val grammar = Grammar(text)
+  private val lexer = grammar.createLexerInterpreter(CharStreams.fromString("")).apply { removeErrorListeners() }
+  private val tokens = CommonTokenStream(lexer)
+  private val parser = grammar.createParserInterpreter(tokens).apply { removeErrorListeners() }
+
+  val dfaStates: Int
+    get() = parser.interpreter.decisionToDFA.sumOf { it.states.size }
+
+  // Number of syntax errors in the line
+  fun parse(line: String): Int {
+    lexer.setInputStream(CharStreams.fromString("$line\n"))
+    tokens.tokenSource = lexer
+    parser.tokenStream = tokens
+    parser.parse(grammar.getRule(startRule).index)
+    return parser.numberOfSyntaxErrors
+  }
+
+  companion object {
+    // The grammar before every decision was made LL(1)
+    fun v1() = InterpretedGrammar(InterpretedGrammar::class.java.getResource("/IngredientGrammarV1.g4")!!.readText())
+
+    // Unit tests run from the module directory
+    fun current() = InterpretedGrammar(File("src/main/java/com/kronos/skilletapp/parser/IngredientGrammar.g4").readText())
+  }
+}
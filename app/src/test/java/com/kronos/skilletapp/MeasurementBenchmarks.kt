@@ -0,0 +1,154 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.model.measurement.*
+import com.kronos.skilletapp.utils.haveSameTypes
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import kotlin.time.measureTimedValue
+
+class MeasurementBenchmarks : FunSpec({
+  // Runs before anything else in the spec touches the unit table, so this is the real first access in this JVM
+  val firstAccess = measureTimedValue { MeasurementUnit.values }.duration
+
+  val units = MeasurementUnit.values + MeasurementUnit.Custom("clove") + MeasurementUnit.None
+
+  // The reflection based checks that used to back hasSameDimensionAs and hasSameSystemAs
+  fun MeasurementUnit.reflectiveSameDimension(other: MeasurementUnit) = (this to other).haveSameTypes(*MeasurementDimension::class.nestedClasses.toTypedArray())
+  fun MeasurementUnit.reflectiveSameSystem(other: MeasurementUnit) = (this to other).haveSameTypes(*MeasurementSystem::class.nestedClasses.toTypedArray())
+
+  context("Unit Classification") {
+    test("Tags agree with the type hierarchy") {
+      for (a in units) {
+        for (b in units) {
+          (a hasSameDimensionAs b) shouldBe a.reflectiveSameDimension(b)
+          (a hasSameSystemAs b) shouldBe a.reflectiveSameSystem(b)
+        }
+      }
+    }
+
+    test("Reflection vs tags across all unit pairs").config(enabledIf = benchmarksEnabled) {
+      var matches = 0
+
+      val reflective = benchmark("reflection", iterations = 1_000) {
+        for (a in units) for (b in units) {
+          if (a.reflectiveSameDimension(b) && a.reflectiveSameSystem(b)) matches++
+        }
+      }
+
+      val tagged = benchmark("tags", iterations = 1_000) {
+        for (a in units) for (b in units) {
+          if (a hasSameDimensionAs b && a hasSameSystemAs b) matches++
+        }
+      }
+
+      println("Speedup: ${reflective.total / tagged.total}x ($matches matches)")
+    }
+  }
+
+  context("Conversion") {
+    test("Converter DSL vs conversion table across all unit pairs").config(enabledIf = benchmarksEnabled) {
+      val pairs = ConversionTable.units.flatMap { from -> ConversionTable.units.filter { it hasSameDimensionAs from }.map { from to it } }
+      var sink = 0f
+
+      val dsl = benchmark("converter dsl", iterations = 1_000) {
+        for ((from, to) in pairs) {
+          sink += BaselineConversion.convert(1 of from, to).quantity
+        }
+      }
+
+      val table = benchmark("conversion table", iterations = 1_000) {
+        for ((from, to) in pairs) {
+          sink += ((1 of from) convertTo to).quantity
+        }
+      }
+
+      println("Speedup: ${dsl.total / table.total}x, allocation ratio: ${dsl.allocatedBytes.toDouble() / table.allocatedBytes} ($sink)")
+    }
+  }
+
+  context("Packed Measurements") {
+    test("Scale and sum 100k measurements").config(enabledIf = benchmarksEnabled) {
+      val count = 100_000
+      val volumes = ConversionTable.units.filter { it.dimension == DimensionType.Volume }
+      val measurements = List(count) { Measurement((it % 17) / 4f, volumes[it % volumes.size]) }
+      val packed = LongArray(count) { measurements[it].packed().bits }
+
+      var sink = 0.0
+
+      val boxed = benchmark("measurement", iterations = 10, warmup = 3) {
+        var total = Measurement(0f, MeasurementUnit.Milliliter)
+        for (measurement in measurements) {
+          total += measurement.scale(1.5f)
+        }
+        sink += total.quantity
+      }
+
+      val unboxed = benchmark("packed measurement", iterations = 10, warmup = 3) {
+        var total = PackedMeasurement.of(0.0, MeasurementUnit.Milliliter)
+        for (bits in packed) {
+          total += PackedMeasurement(bits) * 1.5
+        }
+        sink += total.quantity
+      }
+
+      println("Speedup: ${boxed.total / unboxed.total}x, allocated ${boxed.allocatedBytes} vs ${unboxed.allocatedBytes} bytes ($sink)")
+    }
+  }
+
+  context("Unit Registry") {
+    test("Sorting on first access vs static order").config(enabledIf = benchmarksEnabled) {
+      println("First access to MeasurementUnit.values: $firstAccess")
+
+      val sorted = benchmark("sort by base quantity", iterations = 1_000) {
+        ConversionTable.units.sortedWith(
+          compareBy(
+            { BaselineConversion.toBase(1 of it).quantity },
+            { if (it is MeasurementUnit.Volume) 0 else 1 }
+          )
+        )
+      }
+
+      val static = benchmark("static order", iterations = 1_000) {
+        ConversionTable.sizeOrder.map { ConversionTable.units[it] }
+      }
+
+      println("Speedup: ${sorted.total / static.total}x")
+    }
+  }
+})
+
+// The converter based conversion convertTo and convertToBaseUnit used before ConversionTable, kept to measure against
+private object BaselineConversion {
+  private val baseConverters = listOf(
+    MeasurementUnit.Liter to 1000.0,
+    MeasurementUnit.Pinch to 0.3080575,
+    MeasurementUnit.Dash to 0.616115,
+    MeasurementUnit.Teaspoon to 4.92892,
+    MeasurementUnit.Tablespoon to 14.7868,
+    MeasurementUnit.FluidOunce to 29.5735,
+    MeasurementUnit.Cup to 236.588,
+    MeasurementUnit.Pint to 473.176,
+    MeasurementUnit.Quart to 946.353,
+    MeasurementUnit.Gallon to 3785.41,
+    MeasurementUnit.Kilogram to 1000.0,
+    MeasurementUnit.Ounce to 28.3495,
+    MeasurementUnit.Pound to 453.592,
+  ).map { (unit, baseQuantity) -> converter { (1 of unit) to (baseQuantity of unit.baseUnit) } }
+
+  fun toBase(measurement: Measurement): Measurement {
+    if (measurement.unit.isBaseUnit()) return measurement
+
+    val converter = baseConverters.first { it.from == measurement.unit }
+    return withConverter(converter) { measurement convertTo measurement.unit.baseUnit }
+  }
+
+  fun convert(measurement: Measurement, to: MeasurementUnit): Measurement {
+    if (to.isBaseUnit()) return toBase(measurement)
+
+    return withConverter(converter { measurement.unit to to }) {
+      // What MeasurementRatio.Unit.decimal computed on every access
+      val decimal = toBase(1 of measurement.unit).quantity / toBase(1 of to).quantity
+      Measurement(measurement.quantity * decimal, to)
+    }
+  }
+}
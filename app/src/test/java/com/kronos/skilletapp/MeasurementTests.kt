@@ -1,10 +1,16 @@
 package com.kronos.skilletapp
 
+import com.kronos.skilletapp.data.AlternativeMeasurements
+import com.kronos.skilletapp.model.Ingredient
 import com.kronos.skilletapp.model.measurement.*
+import com.kronos.skilletapp.utils.Fraction
+import com.kronos.skilletapp.utils.toFraction
 import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.core.spec.style.FunSpec
 import io.kotest.matchers.floats.plusOrMinus
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
 import kotlinx.serialization.json.Json
 
 class MeasurementTests : FunSpec({
@@ -466,6 +472,60 @@ class MeasurementTests : FunSpec({
         normalized.quantity shouldBe (1f plusOrMinus 0.001f)
       }
     }
+
+    context("Filtered") {
+      test("Skips fluid ounces") {
+        val fluidOunces = Measurement(6f, MeasurementUnit.Tablespoon).normalized()
+        fluidOunces.unit shouldBe MeasurementUnit.FluidOunce
+        fluidOunces.quantity shouldBe (3f plusOrMinus 0.001f)
+
+        val normalized = Measurement(6f, MeasurementUnit.Tablespoon).normalized(noFluidOunces)
+        normalized.unit shouldBe MeasurementUnit.Cup
+        normalized.quantity shouldBe (0.375f plusOrMinus 0.001f)
+
+        val cups = Measurement(24f, MeasurementUnit.Tablespoon).normalized(noFluidOunces)
+        cups.unit shouldBe MeasurementUnit.Cup
+        cups.quantity shouldBe (1.5f plusOrMinus 0.001f)
+      }
+
+      test("Tables are cached per filter") {
+        (NormalizationTable.of(noFluidOunces) === NormalizationTable.of(noFluidOunces)) shouldBe true
+      }
+    }
+
+    context("Matches step-wise normalization") {
+      // The loop normalized used before the threshold tables, capped since some ranges leave gaps it can't escape
+      fun stepwise(measurement: Measurement, filter: ((MeasurementUnit) -> Boolean)?): Measurement? {
+        val chain = MeasurementUnit.values.filter {
+          it hasSameDimensionAs measurement.unit && it hasSameSystemAs measurement.unit && filter?.invoke(it) != false
+        }
+        var normalized = measurement
+        repeat(20) {
+          with(normalized) {
+            if (quantity in unit.normalizationLow..<unit.normalizationHigh) return normalized
+            val next = chain.getOrNull(chain.indexOf(unit) + if (quantity <= unit.normalizationLow) -1 else 1) ?: return null
+            normalized = normalized convertTo next
+          }
+        }
+        return null
+      }
+
+      val quantities = listOf(0f, 0.1f, 0.25f, 0.5f, 0.75f, 1f, 1.5f, 2f, 3f, 5f, 8f, 12f, 16f, 24f, 48f, 100f, 250f, 1000f)
+
+      listOf<Pair<String, ((MeasurementUnit) -> Boolean)?>>("Unfiltered" to null, "No fluid ounces" to noFluidOunces).forEach { (name, filter) ->
+        test(name) {
+          for (unit in MeasurementUnit.values.filter { filter?.invoke(it) != false }) {
+            for (quantity in quantities) {
+              val measurement = Measurement(quantity, unit)
+              val expected = stepwise(measurement, filter) ?: continue
+              val normalized = measurement.normalized(filter)
+              normalized.unit shouldBe expected.unit
+              normalized.quantity shouldBe (expected.quantity plusOrMinus expected.quantity * 0.001f + 0.001f)
+            }
+          }
+        }
+      }
+    }
   }
 
   context("Scaling and Normalizing") {
@@ -903,4 +963,217 @@ class MeasurementTests : FunSpec({
       }
     }
   }
-})
\ No newline at end of file
+
+  context("Conversion Table") {
+    test("Ids match table positions") {
+      ConversionTable.units.forEachIndexed { index, unit ->
+        unit.id shouldBe index
+      }
+    }
+
+    test("Static order matches sorting by size") {
+      val sorted = ConversionTable.units.sortedWith(
+        compareBy(
+          { (1 of it).convertToBaseUnit().quantity },
+          { if (it is MeasurementUnit.Volume) 0 else 1 }
+        )
+      )
+      MeasurementUnit.values shouldBe sorted
+    }
+
+    test("Every built in unit is in the table") {
+      MeasurementUnit.values.forEach { (it in ConversionTable) shouldBe true }
+      (MeasurementUnit.None in ConversionTable) shouldBe false
+      (MeasurementUnit.Custom("clove") in ConversionTable) shouldBe false
+    }
+
+    test("Round trips are lossless") {
+      for (from in ConversionTable.units) {
+        for (to in ConversionTable.units.filter { it hasSameDimensionAs from }) {
+          val converted = Measurement(1f, from) convertTo to convertTo from
+          converted.quantity shouldBe (1f plusOrMinus 0.0001f)
+        }
+      }
+    }
+
+    test("Unit ratio reads from the table") {
+      val ratio = MeasurementRatio.Unit(1 of MeasurementUnit.Cup, 1 of MeasurementUnit.Tablespoon)
+      ratio.decimal shouldBe (16f plusOrMinus 0.001f)
+    }
+
+    test("Custom units convert one to one") {
+      val converted = Measurement(2f, MeasurementUnit.Custom("clove")) convertTo MeasurementUnit.Custom("head")
+      converted.quantity shouldBe 2f
+    }
+  }
+
+  context("Unit Lookup") {
+    // The linear resolver fromName used before the index
+    fun legacyFromName(unit: String) = MeasurementUnit.values.firstOrNull {
+      it.name == unit || it.abbreviation == unit || it.aliases.contains(unit)
+    } ?: MeasurementUnit.Custom(unit)
+
+    val keys = MeasurementUnit.values.flatMap { listOf(it.name, it.abbreviation) + it.aliases }
+
+    test("Index matches the linear resolver for every alias") {
+      keys.forEach { MeasurementUnit.fromName(it) shouldBe legacyFromName(it) }
+    }
+
+    test("Case distinguishes teaspoons from tablespoons") {
+      MeasurementUnit.fromName("t") shouldBe MeasurementUnit.Teaspoon
+      MeasurementUnit.fromName("T") shouldBe MeasurementUnit.Tablespoon
+    }
+
+    test("Case-insensitive fallback") {
+      MeasurementUnit.fromName("TSP") shouldBe MeasurementUnit.Teaspoon
+      MeasurementUnit.fromName("Cups") shouldBe MeasurementUnit.Cup
+    }
+
+    test("Unknown names are custom units") {
+      MeasurementUnit.fromName("clove") shouldBe MeasurementUnit.Custom("clove")
+      MeasurementUnit.fromName(null) shouldBe MeasurementUnit.None
+    }
+
+    test("Slices resolve without a string") {
+      val line = "2 tbsp butter"
+      MeasurementUnit.fromName(line, 2, 6) shouldBe MeasurementUnit.Tablespoon
+      MeasurementUnit.fromName(line, 7, 13) shouldBe MeasurementUnit.Custom("butter")
+    }
+  }
+
+  context("Packed") {
+    test("Round trips are lossless") {
+      for (unit in MeasurementUnit.values + MeasurementUnit.None) {
+        for (quantity in listOf(0f, 0.125f, 1f / 3f, 1.5f, 16f, 0.90834298f, 1234.5678f, -2f)) {
+          val measurement = Measurement(quantity, unit)
+          measurement.packed().toMeasurement() shouldBe measurement
+        }
+      }
+    }
+
+    test("Custom units can't be packed") {
+      Measurement(1f, MeasurementUnit.Custom("clove")).isPackable() shouldBe false
+      shouldThrow<IllegalArgumentException> {
+        Measurement(1f, MeasurementUnit.Custom("clove")).packed()
+      }
+    }
+
+    test("Arithmetic") {
+      val sum = (teaspoon.packed() * 3.0) + tablespoon.packed()
+      sum.unit shouldBe MeasurementUnit.Teaspoon
+      sum.quantity.toFloat() shouldBe (6f plusOrMinus 0.001f)
+
+      val difference = cup.packed() - (tablespoon.packed() * 8.0)
+      difference.unit shouldBe MeasurementUnit.Cup
+      difference.quantity.toFloat() shouldBe (0.5f plusOrMinus 0.001f)
+    }
+
+    test("Comparison") {
+      (teaspoon.packed() * 3.0).compareTo(tablespoon.packed()) shouldBe 0
+      (cup.packed() > tablespoon.packed()) shouldBe true
+    }
+
+    test("Conversion") {
+      val converted = pound.packed() convertTo MeasurementUnit.Ounce
+      converted.unit shouldBe MeasurementUnit.Ounce
+      converted.quantity.toFloat() shouldBe (16f plusOrMinus 0.001f)
+    }
+
+    test("Cross dimension arithmetic is rejected") {
+      shouldThrow<IllegalArgumentException> {
+        cup.packed() + kilogram.packed()
+      }
+    }
+  }
+
+  context("Display") {
+    // How quantities were formatted before QuantityFormatter
+    fun legacyDisplayQuantity(measurement: Measurement) = with(measurement) {
+      when (unit) {
+        is MeasurementSystem.Metric -> quantity.toString().take(4).removeSuffix(".")
+        else -> quantity.toFraction().roundToNearestFraction().reduce().toDisplayString()
+      }
+    }
+
+    fun legacyToString(measurement: Measurement) = with(measurement) {
+      when (unit) {
+        is MeasurementSystem.Metric -> "${quantity.toString().take(4).removeSuffix(".")} ${unit.name}"
+        else -> "${quantity.toFraction().roundToNearestFraction().reduce()} ${unit.name}"
+      }
+    }
+
+    val quantities = (0..20_000).map { it / 97f } + listOf(0.0625f, 0.90834298f, 1f / 3f, 2f / 3f, 150.5f, 1234.5f)
+
+    listOf(MeasurementUnit.Cup, MeasurementUnit.Milliliter, MeasurementUnit.None, MeasurementUnit.Custom("clove")).forEach { unit ->
+      test("Matches previous formatting for ${unit.name}") {
+        for (quantity in quantities) {
+          val measurement = Measurement(quantity, unit)
+          measurement.displayQuantity shouldBe legacyDisplayQuantity(measurement)
+          measurement.toString() shouldBe legacyToString(measurement)
+        }
+      }
+    }
+
+    test("Prints quantities outside the fraction range as decimals") {
+      Measurement(Float.POSITIVE_INFINITY, MeasurementUnit.Cup).displayQuantity shouldBe "Infinity"
+      Measurement(Float.NEGATIVE_INFINITY, MeasurementUnit.Cup).displayQuantity shouldBe "-Infinity"
+      Measurement(Float.NaN, MeasurementUnit.Cup).displayQuantity shouldBe "NaN"
+      Measurement(3e9f, MeasurementUnit.Cup).toString() shouldBe "3000000000 cup"
+      Measurement(-2.5e6f, MeasurementUnit.Custom("clove")).displayQuantity shouldBe "-2500000"
+    }
+
+    test("Common values are interned") {
+      (Measurement(1.5f, MeasurementUnit.Cup).displayQuantity === Measurement(1.5f, MeasurementUnit.Cup).displayQuantity) shouldBe true
+    }
+  }
+
+  context("Alternatives") {
+    val pasta = Ingredient("Pasta", Measurement(8f, MeasurementUnit.Ounce), "8 oz Pasta")
+
+    fun legacyAlternatives(ingredient: Ingredient, scale: Float) = MeasurementUnit.values
+      .filter { it hasSameDimensionAs ingredient.measurement.unit }
+      .map { ingredient.measurement.convertTo(it).scale(scale) }
+      .filter { it.quantity.toFraction().roundToNearestFraction() > Fraction(1, 8) }
+
+    test("Matches inline computation") {
+      val alternatives = AlternativeMeasurements()
+      listOf(0.5f, 1f, 2f, 3.5f).forEach { scale ->
+        listOf(pasta, Ingredient("Milk", Measurement(2.5f, MeasurementUnit.Cup), "2 1/2 cups milk")).forEach {
+          alternatives.of(it, scale) shouldBe legacyAlternatives(it, scale)
+        }
+      }
+    }
+
+    test("Computes each entry once") {
+      val alternatives = AlternativeMeasurements()
+      alternatives.cached(pasta, 2f) shouldBe null
+
+      val first = alternatives.of(pasta, 2f)
+      alternatives.cached(pasta, 2f) shouldBeSameInstanceAs first
+      alternatives.of(pasta, 2f) shouldBeSameInstanceAs first
+      alternatives.cached(pasta.copy(measurement = Measurement(9f, MeasurementUnit.Ounce)), 2f) shouldBe null
+    }
+
+    test("Quantities outside the fraction range still have alternatives") {
+      val flour = Ingredient("Flour", Measurement(1e9f, MeasurementUnit.Pound), "1000000000 lb flour")
+      val alternatives = AlternativeMeasurements().of(flour, 1f)
+      alternatives.map { it.unit } shouldBe MeasurementUnit.values.filter { it hasSameDimensionAs MeasurementUnit.Pound }
+      alternatives.forEach { it.toString() }
+    }
+
+    test("Custom units have no alternatives") {
+      val garlic = Ingredient("Garlic", Measurement(2f, MeasurementUnit.Custom("clove")), "2 cloves Garlic")
+      AlternativeMeasurements().cached(garlic, 1f) shouldBe emptyList()
+    }
+
+    test("Evicts least recently used entries") {
+      val alternatives = AlternativeMeasurements()
+      val scales = (0..AlternativeMeasurements.MAX_ENTRIES).map { 1f + it / 10f }
+      scales.forEach { alternatives.of(pasta, it) }
+
+      alternatives.size shouldBe AlternativeMeasurements.MAX_ENTRIES
+      alternatives.cached(pasta, scales.first()) shouldBe null
+      alternatives.cached(pasta, scales.last()) shouldNotBe null
+    }
+  }
+})
@@ -0,0 +1,220 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.parser.GrammarCache
+import com.kronos.skilletapp.parser.IngredientParser
+import com.kronos.skilletapp.parser.IngredientVisitor
+import com.kronos.skilletapp.parser.ParseMode
+import com.kronos.skilletapp.parser.ParseSession
+import com.kronos.skilletapp.parser.ParserEngine
+import com.kronos.skilletapp.parser.ParserWarmup
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarLexer
+import com.kronos.skilletapp.parser.grammar.IngredientGrammarParser
+import io.kotest.core.spec.style.FunSpec
+import org.antlr.v4.runtime.CharStreams
+import org.antlr.v4.runtime.CommonTokenStream
+import kotlin.time.DurationUnit
+import kotlin.time.measureTime
+
+// How every line used to be parsed, with a new set of recognizers each time
+fun freshParse(text: String) = "$text\n".let { input ->
+  IngredientVisitor().visitIngredient(
+    IngredientGrammarParser(
+      CommonTokenStream(
+        IngredientGrammarLexer(
+          CharStreams.fromString(input)
+        )
+      )
+    ).ingredient()
+  )
+}
+
+fun freshParseAll(text: String) = "$text\n".let { input ->
+  IngredientVisitor().visitIngredients(
+    IngredientGrammarParser(
+      CommonTokenStream(
+        IngredientGrammarLexer(
+          CharStreams.fromString(input)
+        )
+      )
+    ).recipe()
+  )
+}
+
+fun BenchmarkResult.linesPerSecond(linesPerIteration: Int) = (linesPerIteration * iterations / total.toDouble(DurationUnit.SECONDS)).toLong()
+
+class ParserBenchmarks : FunSpec({
+  val corpus = IngredientCorpus.lines(5_000)
+
+  context("Recognizer Reuse") {
+    test("Fresh recognizers vs reused engine").config(enabledIf = benchmarksEnabled) {
+      val parser = IngredientParser()
+      var sink = 0
+
+      val fresh = benchmark("fresh recognizers", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += freshParse(line).name.length
+      }
+
+      val reused = benchmark("reused engine", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += parser.parseIngredient(line).name.length
+      }
+
+      println("Throughput: ${fresh.linesPerSecond(corpus.size)} vs ${reused.linesPerSecond(corpus.size)} lines/s")
+      println("Speedup: ${fresh.total / reused.total}x, allocation ratio: ${fresh.allocatedBytes.toDouble() / reused.allocatedBytes} ($sink)")
+    }
+  }
+
+  context("Prediction Mode") {
+    test("Full LL vs SLL with LL fallback").config(enabledIf = benchmarksEnabled) {
+      val ll = ParserEngine(mode = ParseMode.Ll)
+      val twoStage = ParserEngine(mode = ParseMode.TwoStage)
+      var sink = 0
+
+      val llResult = benchmark("full LL", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += ll.parseIngredient(line).name.length
+      }
+
+      twoStage.statistics.reset()
+      val twoStageResult = benchmark("two-stage", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += twoStage.parseIngredient(line).name.length
+      }
+
+      println("Throughput: ${llResult.linesPerSecond(corpus.size)} vs ${twoStageResult.linesPerSecond(corpus.size)} lines/s")
+      println("Speedup: ${llResult.total / twoStageResult.total}x ($sink)")
+      println(twoStage.statistics)
+    }
+  }
+
+  context("Grammar") {
+    test("Previous grammar vs LL(1) grammar").config(enabledIf = benchmarksEnabled) {
+      val previous = InterpretedGrammar.v1()
+      val current = InterpretedGrammar.current()
+      var sink = 0
+
+      val previousResult = benchmark("previous grammar", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += previous.parse(line)
+      }
+
+      val currentResult = benchmark("LL(1) grammar", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += current.parse(line)
+      }
+
+      println("Throughput: ${previousResult.linesPerSecond(corpus.size)} vs ${currentResult.linesPerSecond(corpus.size)} lines/s")
+      println("Speedup: ${previousResult.total / currentResult.total}x, DFA states: ${previous.dfaStates} vs ${current.dfaStates} ($sink)")
+    }
+  }
+
+  context("Scanner") {
+    test("Grammar vs scanner with grammar fallback").config(enabledIf = benchmarksEnabled) {
+      val engine = ParserEngine()
+      val parser = IngredientParser()
+      var sink = 0
+
+      val grammar = benchmark("grammar only", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += engine.parseIngredient(line).name.length
+      }
+
+      parser.statistics.reset()
+      val scanner = benchmark("scanner", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += parser.parseIngredient(line).name.length
+      }
+
+      println("Throughput: ${grammar.linesPerSecond(corpus.size)} vs ${scanner.linesPerSecond(corpus.size)} lines/s")
+      println("Speedup: ${grammar.total / scanner.total}x, allocation ratio: ${grammar.allocatedBytes.toDouble() / scanner.allocatedBytes} ($sink)")
+      println(parser.statistics)
+    }
+  }
+
+  context("Batch Parsing") {
+    test("One line at a time vs concurrent chunks").config(enabledIf = benchmarksEnabled) {
+      val parser = IngredientParser()
+      var sink = 0
+
+      val sequential = benchmark("sequential", iterations = 5, warmup = 2) {
+        for (line in corpus) sink += parser.parseIngredient(line).name.length
+      }
+
+      val batched = benchmark("batched", iterations = 5, warmup = 2) {
+        sink += parser.parseAll(corpus).size
+      }
+
+      println("Throughput: ${sequential.linesPerSecond(corpus.size)} vs ${batched.linesPerSecond(corpus.size)} lines/s")
+      println("Speedup: ${sequential.total / batched.total}x on ${Runtime.getRuntime().availableProcessors()} cores ($sink)")
+    }
+  }
+
+  context("Parse Session") {
+    test("Whole block vs incremental session per keystroke").config(enabledIf = benchmarksEnabled) {
+      val parser = IngredientParser()
+      val block = corpus.take(500)
+      // Typing out one more ingredient at the end of the block, a character at a time
+      val keystrokes = "2 tablespoons unsalted butter, melted".let { line -> (1..line.length).map { line.take(it) } }
+      var sink = 0
+
+      val whole = benchmark("whole block", iterations = 3, warmup = 1) {
+        parser.cache.clear()
+        for (typed in keystrokes) sink += parser.parseAll((block + typed).joinToString("\n")).size
+      }
+
+      val incremental = benchmark("session", iterations = 3, warmup = 1) {
+        parser.cache.clear()
+        val session = ParseSession(parser)
+        for (typed in keystrokes) sink += session.update((block + typed).joinToString("\n")).size
+      }
+
+      println("Speedup: ${whole.total / incremental.total}x over ${keystrokes.size} keystrokes ($sink)")
+    }
+  }
+
+  context("Warm-up") {
+    test("Time to first parse with and without warm-up").config(enabledIf = benchmarksEnabled) {
+      // Each run is a new process, since the cost being measured is only paid once per process
+      val cold = List(5) { TimeToFirstParse.measure(warm = false) }.sorted()
+      val warm = List(5) { TimeToFirstParse.measure(warm = true) }.sorted()
+
+      println("First 60-line paste: ${cold[2]} cold vs ${warm[2]} after warm-up (median of 5 processes)")
+      println("Speedup: ${cold[2] / warm[2]}x")
+    }
+
+    test("DFA states built by priming").config(enabledIf = benchmarksEnabled) {
+      val cache = GrammarCache.fresh()
+      val duration = ParserWarmup.prime(cache)
+      println("Primed ${cache.lexerStates} lexer and ${cache.parserStates} parser DFA states in $duration")
+    }
+  }
+
+  context("Corpus") {
+    // Latencies come from timing each line on its own over several passes, throughput and allocation from whole passes
+    fun report(shape: String, lines: List<String>) {
+      val parser = IngredientParser()
+      var sink = 0
+
+      val result = benchmark(shape, iterations = 10, warmup = 5) {
+        parser.cache.clear()
+        for (line in lines) sink += parser.parseIngredient(line).name.length
+      }
+
+      val latencies = (1..5).flatMap {
+        parser.cache.clear()
+        lines.map { line -> measureTime { sink += parser.parseIngredient(line).name.length } }
+      }
+
+      println(
+        "$shape: ${result.linesPerSecond(lines.size)} lines/s, " +
+          "${result.allocatedBytes / (lines.size.toLong() * result.iterations)} B/line, " +
+          "${result.bytesPerSecond() / (1024 * 1024)} MiB/s allocated, " +
+          "p50 ${latencies.percentile(0.5)}, p99 ${latencies.percentile(0.99)} ($sink)"
+      )
+      println(parser.statistics)
+    }
+
+    for ((shape, lines) in IngredientCorpus.shapes) {
+      test("Throughput on $shape lines").config(enabledIf = benchmarksEnabled) {
+        report(shape, lines)
+      }
+    }
+
+    test("Throughput on the whole corpus").config(enabledIf = benchmarksEnabled) {
+      report("all", IngredientCorpus.shapes.values.flatten())
+    }
+  }
+})
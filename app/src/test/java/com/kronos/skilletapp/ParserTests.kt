@@ -1,10 +1,32 @@
 package com.kronos.skilletapp
 
 import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.model.measurement.UnitNameIndex
+import com.kronos.skilletapp.parser.GrammarCache
 import com.kronos.skilletapp.parser.IngredientParser
+import com.kronos.skilletapp.parser.IngredientScanner
+import com.kronos.skilletapp.parser.ParseCache
+import com.kronos.skilletapp.parser.ParseMode
+import com.kronos.skilletapp.parser.ParseSession
+import com.kronos.skilletapp.parser.ParseStatistics
+import com.kronos.skilletapp.parser.ParserEngine
+import com.kronos.skilletapp.parser.ParserWarmup
+import com.kronos.skilletapp.parser.UnitTokens
 import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldNotBeEmpty
 import io.kotest.matchers.doubles.plusOrMinus
+import io.kotest.matchers.ints.shouldBeGreaterThan
+import io.kotest.matchers.ints.shouldBeLessThanOrEqual
+import io.kotest.matchers.longs.shouldBeGreaterThan
+import io.kotest.matchers.longs.shouldBeLessThanOrEqual
+import io.kotest.matchers.nulls.shouldBeNull
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import java.io.File
 
 class ParserTests : FunSpec({
 
@@ -94,4 +116,297 @@ class ParserTests : FunSpec({
       }
     }
   }
-})
\ No newline at end of file
+
+  context("Reused Engine") {
+    val parser = IngredientParser()
+    val corpus = IngredientCorpus.lines(2_000)
+
+    test("Matches fresh recognizers") {
+      for (line in corpus) {
+        parser.parseIngredient(line).parsed() shouldBe freshParse(line).parsed()
+      }
+    }
+
+    test("Matches fresh recognizers for multiple lines") {
+      val text = corpus.take(200).joinToString("\n")
+      parser.parseIngredients(text).map { it.parsed() } shouldBe freshParseAll(text).map { it.parsed() }
+    }
+
+    test("Parses on several threads at once") {
+      val expected = corpus.map { freshParse(it).parsed() }
+      val results = (0..<4).map { offset ->
+        async(Dispatchers.Default) { corpus.drop(offset).map { parser.parseIngredient(it).parsed() } }
+      }.awaitAll()
+
+      results.forEachIndexed { offset, parsed -> parsed shouldBe expected.drop(offset) }
+    }
+  }
+
+  context("Two-Stage Parsing") {
+    val corpus = IngredientCorpus.lines(2_000)
+
+    test("Matches full LL") {
+      val twoStage = ParserEngine(mode = ParseMode.TwoStage)
+      val ll = ParserEngine(mode = ParseMode.Ll)
+
+      for (line in corpus) {
+        twoStage.parseIngredient(line).parsed() shouldBe ll.parseIngredient(line).parsed()
+      }
+    }
+
+    test("Counts the path every line took") {
+      val statistics = ParseStatistics()
+      val engine = ParserEngine(statistics = statistics)
+
+      engine.parseIngredient("1 cup butter")
+      statistics.sllLines shouldBe 1
+      statistics.llLines shouldBe 0
+
+      corpus.forEach { engine.parseIngredient(it) }
+      statistics.totalLines shouldBe corpus.size + 1
+      // The engine never scans, and only lines SLL can't parse fall back to LL
+      statistics.scannedLines shouldBe 0
+      statistics.llLines shouldBe statistics.errorLines
+      statistics.sllLines shouldBeGreaterThan statistics.llLines
+    }
+
+    test("Collects syntax errors on the LL path") {
+      val statistics = ParseStatistics()
+      val engine = ParserEngine(statistics = statistics)
+
+      engine.parseIngredient("1 cup butter")
+      engine.lastErrors.shouldBeEmpty()
+
+      engine.parseIngredient("** see notes")
+      statistics.llLines shouldBe 1
+      statistics.errorLines shouldBe 1
+      engine.lastErrors.shouldNotBeEmpty()
+    }
+  }
+
+  context("Grammar") {
+    val engine = ParserEngine()
+
+    test("Accepts every line the previous grammar accepted") {
+      val previous = InterpretedGrammar.v1()
+
+      for (line in IngredientCorpus.lines(2_000).filter { previous.parse(it) == 0 }) {
+        engine.parseIngredient(line)
+        engine.lastErrors.shouldBeEmpty()
+      }
+    }
+
+    test("Only takes a unit when a name follows it") {
+      val ingredient = engine.parseIngredient("1 cup")
+      ingredient.name shouldBe "cup"
+      ingredient.measurement.unit shouldBe MeasurementUnit.None
+    }
+
+    test("Keeps later numbers in the name") {
+      val ingredient = engine.parseIngredient("2 to 3 cups flour")
+      ingredient.name shouldBe "3 cups flour"
+      ingredient.measurement.quantity shouldBe 2.0
+      engine.lastErrors.shouldBeEmpty()
+    }
+  }
+
+  context("Unit Tokens") {
+    val engine = ParserEngine()
+
+    test("Grammar is up to date with the units") {
+      val grammar = File("src/main/java/com/kronos/skilletapp/parser/IngredientGrammar.g4").readLines()
+      val rules = grammar
+        .subList(grammar.indexOfFirst { it.startsWith("// BEGIN UNITS") } + 1, grammar.indexOf("// END UNITS"))
+        .joinToString("\n")
+
+      rules.trim() shouldBe UnitTokens.grammarRules()
+    }
+
+    test("Lexes every unit name to its unit") {
+      for ((name, unit) in UnitNameIndex(MeasurementUnit.values).exactKeys) {
+        val ingredient = engine.parseIngredient("1 $name butter")
+        ingredient.measurement.unit shouldBe unit
+        ingredient.name shouldBe "butter"
+        engine.lastErrors.shouldBeEmpty()
+      }
+    }
+
+    test("Reads a unit written with a space as one unit") {
+      val ingredient = engine.parseIngredient("2 fl oz lemon juice")
+      ingredient.measurement.unit shouldBe MeasurementUnit.FluidOunce
+      ingredient.name shouldBe "lemon juice"
+      IngredientScanner.scanIngredient("2 fl oz lemon juice").shouldBeNull()
+    }
+
+    test("Only reads a unit written with a space when it ends at a word boundary") {
+      val ingredient = engine.parseIngredient("1 fl ozzy")
+      ingredient.measurement.unit shouldBe MeasurementUnit.Custom("fl")
+      ingredient.name shouldBe "ozzy"
+    }
+
+    test("Keeps unknown units as custom units") {
+      engine.parseIngredient("3 cloves garlic").measurement.unit shouldBe MeasurementUnit.Custom("cloves")
+    }
+
+    test("Keeps unit names in the ingredient name") {
+      val ingredient = engine.parseIngredient("1 cup c")
+      ingredient.measurement.unit shouldBe MeasurementUnit.Cup
+      ingredient.name shouldBe "c"
+      engine.lastErrors.shouldBeEmpty()
+    }
+  }
+
+  context("Scanner") {
+    val engine = ParserEngine()
+    val lines = IngredientCorpus.lines(20_000) + IngredientCorpus.shapes.values.flatten() + IngredientCorpus.noise(100_000)
+
+    test("Matches the grammar for every line it scans") {
+      for (line in lines) {
+        val scanned = IngredientScanner.scanIngredient(line) ?: continue
+        scanned.parsed() shouldBe engine.parseIngredient(line).parsed()
+        engine.lastErrors.shouldBeEmpty()
+      }
+    }
+
+    test("Matches the grammar for multiple lines") {
+      for (text in lines.chunked(4).map { it.joinToString("\n") }) {
+        val scanned = IngredientScanner.scanIngredients(text) ?: continue
+        scanned.map { it.parsed() } shouldBe engine.parseIngredients(text).map { it.parsed() }
+      }
+    }
+
+    test("Scans most scraped lines") {
+      val corpus = IngredientCorpus.lines(2_000)
+      corpus.count { IngredientScanner.scanIngredient(it) != null } shouldBeGreaterThan corpus.size / 2
+    }
+
+    test("Leaves ranges and numbers in the name to the grammar") {
+      IngredientScanner.scanIngredient("1-2 cups flour").shouldBeNull()
+      IngredientScanner.scanIngredient("2 to 3 cups flour").shouldBeNull()
+    }
+
+    test("Records scanned lines") {
+      val parser = IngredientParser()
+      parser.parseIngredient("1 cup butter")
+      parser.parseIngredient("1-2 cups flour")
+      parser.statistics.scannedLines shouldBe 1
+      parser.statistics.sllLines shouldBe 1
+    }
+  }
+
+  context("Batch Parsing") {
+    val parser = IngredientParser()
+    val corpus = IngredientCorpus.lines(2_000)
+
+    test("Keeps the order of the lines") {
+      parser.parseAll(corpus).map { it.parsed() } shouldBe corpus.map { parser.parseIngredient(it).parsed() }
+    }
+
+    test("Parses small batches") {
+      parser.parseAll(emptyList()).shouldBeEmpty()
+      parser.parseAll(corpus.take(3)).map { it.raw } shouldBe corpus.take(3).map { it.trimEnd() }
+    }
+
+    test("Skips blank lines in pasted text") {
+      val ingredients = parser.parseAll("1 cup butter\n\n  \n2 eggs\n")
+      ingredients.map { it.name } shouldBe listOf("butter", "eggs")
+    }
+  }
+
+  context("Parse Cache") {
+    test("Gives every hit a new id") {
+      val parser = IngredientParser()
+      val first = parser.parseIngredient("1 tsp salt")
+      val second = parser.parseIngredient("1 tsp salt")
+
+      second.parsed() shouldBe first.parsed()
+      second.id shouldNotBe first.id
+      parser.cache.hits shouldBe 1
+      parser.cache.misses shouldBe 1
+    }
+
+    test("Ignores trailing line breaks") {
+      val parser = IngredientParser()
+      parser.parseIngredient("2 cups flour")
+      parser.parseIngredient("2 cups flour\n")
+      parser.cache.hits shouldBe 1
+    }
+
+    test("Evicts the least recently used lines") {
+      val cache = ParseCache(maxChars = 100)
+      val parse = { text: String -> IngredientParser().parseIngredient(text) }
+
+      cache.getOrParse("1 cup butter", parse)
+      cache.getOrParse("2 cups flour", parse)
+      cache.getOrParse("1 cup butter", parse)
+      cache.getOrParse("1 tsp kosher salt", parse)
+
+      cache.weight shouldBeLessThanOrEqual 100
+      cache.getOrParse("1 cup butter", parse)
+      cache.hits shouldBe 2
+      cache.getOrParse("2 cups flour", parse)
+      cache.misses shouldBe 4
+    }
+
+    test("Counts lookups from the batch parser") {
+      val parser = IngredientParser()
+      val corpus = IngredientCorpus.lines(2_000)
+
+      parser.parseAll(corpus)
+      parser.parseAll(corpus)
+      parser.cache.hits + parser.cache.misses shouldBe corpus.size * 2L
+      parser.cache.misses shouldBeLessThanOrEqual corpus.distinct().size.toLong() * 2
+    }
+  }
+
+  context("Parse Session") {
+    val parser = IngredientParser()
+    val corpus = IngredientCorpus.lines(200)
+
+    test("Only parses the lines that changed") {
+      val session = ParseSession(parser)
+      val first = session.update(corpus.joinToString("\n"))
+      session.reparsedLines shouldBe corpus.size
+
+      val edited = corpus.toMutableList().apply { this[100] = "3 tbsp honey" }
+      val second = session.update(edited.joinToString("\n"))
+
+      session.reparsedLines shouldBe 1
+      second[100].name shouldBe "honey"
+      second.filterIndexed { i, _ -> i != 100 }.map { it.id } shouldBe first.filterIndexed { i, _ -> i != 100 }.map { it.id }
+    }
+
+    test("Matches parsing the whole block after every edit") {
+      val session = ParseSession(parser)
+      val lines = corpus.take(20).toMutableList()
+
+      val edits = listOf<MutableList<String>.() -> Unit>(
+        { add(5, "") },
+        { add(0, "1 cup sugar") },
+        { removeAt(10) },
+        { this[lastIndex] = this[lastIndex] + ", chopped" },
+        { addAll(listOf("2 eggs", "", "salt")) },
+        { clear() },
+      )
+
+      for (edit in edits) {
+        lines.edit()
+        val text = lines.joinToString("\n")
+        session.update(text).map { it.parsed() } shouldBe parser.parseAll(text).map { it.parsed() }
+      }
+    }
+  }
+
+  context("Warm-up") {
+    test("Primes the lexer DFA") {
+      val cache = GrammarCache.fresh()
+      ParserWarmup.prime(cache)
+      cache.lexerStates shouldBeGreaterThan 0
+    }
+
+    test("Parses every warm-up line") {
+      val engine = ParserEngine()
+      ParserWarmup.lines.map { engine.parseIngredient(it).raw } shouldBe ParserWarmup.lines
+    }
+  }
+})
@@ -0,0 +1,155 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.utils.Rational
+import com.kronos.skilletapp.utils.toFraction
+import com.kronos.skilletapp.utils.toRational
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.doubles.plusOrMinus
+import io.kotest.matchers.shouldBe
+import io.kotest.property.Arb
+import io.kotest.property.arbitrary.bind
+import io.kotest.property.arbitrary.choice
+import io.kotest.property.arbitrary.double
+import io.kotest.property.arbitrary.float
+import io.kotest.property.arbitrary.int
+import io.kotest.property.checkAll
+import java.math.BigInteger
+import kotlin.math.abs
+
+class RationalTests : FunSpec({
+  val numerators = Arb.choice(Arb.int(-1000..1000), Arb.int())
+  val denominators = Arb.choice(Arb.int(1..1000), Arb.int(1..Int.MAX_VALUE))
+  val rationals = Arb.bind(numerators, denominators) { n, d -> Rational.of(n, d) }
+
+  val intRange = BigInteger.valueOf(Int.MIN_VALUE.toLong())..BigInteger.valueOf(Int.MAX_VALUE.toLong())
+
+  fun Rational.big() = BigInteger.valueOf(numerator.toLong()) to BigInteger.valueOf(denominator.toLong())
+
+  // Reduces with BigInteger and checks the result matches, or that the operation overflowed when it can't fit in an Int
+  fun shouldMatch(numerator: BigInteger, denominator: BigInteger, actual: () -> Rational) {
+    if (denominator.signum() == 0) {
+      shouldThrow<ArithmeticException> { actual() }
+      return
+    }
+
+    val gcd = numerator.gcd(denominator).let { if (denominator.signum() < 0) it.negate() else it }
+    val n = numerator / gcd
+    val d = denominator / gcd
+
+    if (n in intRange && d in intRange) {
+      val result = actual()
+      result.numerator shouldBe n.toInt()
+      result.denominator shouldBe d.toInt()
+    } else {
+      shouldThrow<ArithmeticException> { actual() }
+    }
+  }
+
+  context("Construction") {
+    test("Always reduced") {
+      checkAll(numerators, Arb.int()) { n, d ->
+        shouldMatch(BigInteger.valueOf(n.toLong()), BigInteger.valueOf(d.toLong())) { Rational.of(n, d) }
+      }
+    }
+
+    test("Equality is structural") {
+      Rational.of(5, 10) shouldBe Rational.of(1, 2)
+      Rational.of(-3, -9) shouldBe Rational.of(1, 3)
+      Rational.of(2, -4) shouldBe Rational.of(-1, 2)
+    }
+  }
+
+  context("Arithmetic") {
+    test("Addition") {
+      checkAll(rationals, rationals) { a, b ->
+        val (an, ad) = a.big()
+        val (bn, bd) = b.big()
+        shouldMatch(an * bd + bn * ad, ad * bd) { a + b }
+      }
+    }
+
+    test("Subtraction") {
+      checkAll(rationals, rationals) { a, b ->
+        val (an, ad) = a.big()
+        val (bn, bd) = b.big()
+        shouldMatch(an * bd - bn * ad, ad * bd) { a - b }
+      }
+    }
+
+    test("Multiplication") {
+      checkAll(rationals, rationals) { a, b ->
+        val (an, ad) = a.big()
+        val (bn, bd) = b.big()
+        shouldMatch(an * bn, ad * bd) { a * b }
+      }
+    }
+
+    test("Division") {
+      checkAll(rationals, rationals) { a, b ->
+        val (an, ad) = a.big()
+        val (bn, bd) = b.big()
+        shouldMatch(an * bd, ad * bn) { a / b }
+      }
+    }
+
+    test("Comparison") {
+      checkAll(rationals, rationals) { a, b ->
+        val (an, ad) = a.big()
+        val (bn, bd) = b.big()
+        a.compareTo(b) shouldBe (an * bd).compareTo(bn * ad)
+      }
+    }
+  }
+
+  context("From Decimal") {
+    test("Matches Fraction") {
+      checkAll(Arb.float(0f..1000f)) { f ->
+        val expected = f.toFraction()
+        val actual = f.toRational()
+        actual.numerator shouldBe expected.numerator
+        actual.denominator shouldBe expected.denominator
+      }
+    }
+
+    test("Display matches Fraction") {
+      checkAll(Arb.float(0f..100f)) { f ->
+        val expected = f.toFraction().roundToNearestFraction().reduce()
+        val actual = f.toRational().roundToNearestFraction()
+        actual.toString() shouldBe expected.toString()
+        actual.toDisplayString() shouldBe expected.toDisplayString()
+      }
+    }
+
+    test("Special values") {
+      Float.NaN.toRational() shouldBe Rational.ZERO
+      Float.POSITIVE_INFINITY.toRational() shouldBe Rational.of(Int.MAX_VALUE, 1)
+      Float.NEGATIVE_INFINITY.toRational() shouldBe Rational.of(Int.MIN_VALUE, 1)
+      Double.NaN.toRational() shouldBe Rational.ZERO
+      Double.POSITIVE_INFINITY.toRational() shouldBe Rational.of(Int.MAX_VALUE, 1)
+      Double.NEGATIVE_INFINITY.toRational() shouldBe Rational.of(Int.MIN_VALUE, 1)
+
+      // Too precise to fit, so only the whole part is kept
+      3_000_000.001.toRational() shouldBe Rational.of(3_000_000, 1)
+    }
+
+    // Saturates to the Int range, within what the float multiplication by the precision can lose
+    fun shouldSaturate(value: Double, actual: Rational) {
+      if (value.isNaN()) {
+        actual shouldBe Rational.ZERO
+        return
+      }
+
+      val expected = value.coerceIn(Int.MIN_VALUE.toDouble(), Int.MAX_VALUE.toDouble())
+      actual.toDouble() shouldBe (expected plusOrMinus maxOf(1.0, abs(expected) * 1e-6))
+    }
+
+    test("Any float converts") {
+      checkAll(Arb.float()) { f -> shouldSaturate(f.toDouble(), f.toRational()) }
+    }
+
+    test("Any double converts") {
+      checkAll(Arb.double()) { d -> shouldSaturate(d, d.toRational()) }
+    }
+  }
+})
@@ -0,0 +1,79 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.data.AlternativeMeasurements
+import com.kronos.skilletapp.model.*
+import com.kronos.skilletapp.model.measurement.Measurement
+import com.kronos.skilletapp.model.measurement.MeasurementUnit
+import com.kronos.skilletapp.ui.viewmodel.RecipeDisplayModel
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+
+class RecipeDisplayTests : FunSpec({
+  val pasta = Ingredient("Pasta", Measurement(8f, MeasurementUnit.Ounce), "8 oz Pasta")
+  val milk = Ingredient("Milk", Measurement(2.5f, MeasurementUnit.Cup), "2 1/2 cups milk")
+  val garlic = Ingredient("Garlic", Measurement(2f, MeasurementUnit.Custom("clove")), "2 cloves Garlic")
+  val salt = Ingredient("Salt", Measurement(0f, MeasurementUnit.None), "Salt, to taste")
+
+  val recipe = Recipe(
+    id = "test",
+    name = "Pasta",
+    description = "",
+    notes = "",
+    servings = 4,
+    time = RecipeTime(),
+    source = RecipeSource(),
+    ingredients = listOf(pasta, milk, garlic, salt),
+    instructions = listOf(
+      Instruction("Boil the pasta", ingredients = listOf(pasta)),
+      Instruction("Make the sauce", ingredients = listOf(milk, garlic)),
+    ),
+    equipment = emptyList()
+  )
+
+  test("Rows match the measurements they display") {
+    val display = RecipeDisplayModel.build(recipe, 2f, emptyMap(), AlternativeMeasurements())
+
+    display.ingredients.map { it.label } shouldBe listOf("1 lb", "5 cup", "4 clove", "0")
+    display.ingredients[0].alternatives shouldBe AlternativeMeasurements.compute(pasta.measurement, 2f)
+    display.ingredients[2].alternatives.shouldBeEmpty()
+  }
+
+  test("Selected units are converted to") {
+    val display = RecipeDisplayModel.build(recipe, 1f, mapOf(pasta to MeasurementUnit.Gram), AlternativeMeasurements())
+
+    display.ingredients[0].measurement.unit shouldBe MeasurementUnit.Gram
+    display.ingredients[0].unit shouldBe "g"
+    display.ingredients[0].selectedUnit shouldBe MeasurementUnit.Gram
+  }
+
+  test("Instructions share rows with the ingredient list") {
+    val display = RecipeDisplayModel.build(recipe, 1f, emptyMap(), AlternativeMeasurements())
+
+    display.instructions[0].ingredients[0] shouldBeSameInstanceAs display.ingredients[0]
+    display.instructions[1].ingredients[1] shouldBeSameInstanceAs display.ingredients[2]
+  }
+
+  test("Selecting a unit only rebuilds that ingredient's rows") {
+    val alternatives = AlternativeMeasurements()
+    val before = RecipeDisplayModel.build(recipe, 1f, emptyMap(), alternatives)
+    val after = RecipeDisplayModel.build(recipe, 1f, mapOf(milk to MeasurementUnit.Milliliter), alternatives, before)
+
+    after.ingredients[0] shouldBeSameInstanceAs before.ingredients[0]
+    after.ingredients[1] shouldNotBeSameInstanceAs before.ingredients[1]
+    after.ingredients[2] shouldBeSameInstanceAs before.ingredients[2]
+    after.instructions[0] shouldBeSameInstanceAs before.instructions[0]
+    after.instructions[1] shouldNotBeSameInstanceAs before.instructions[1]
+  }
+
+  test("Scaling rebuilds every row") {
+    val alternatives = AlternativeMeasurements()
+    val before = RecipeDisplayModel.build(recipe, 1f, emptyMap(), alternatives)
+    val after = RecipeDisplayModel.build(recipe, 2f, emptyMap(), alternatives, before)
+
+    after.ingredients.zip(before.ingredients).forEach { (new, old) -> new shouldNotBeSameInstanceAs old }
+    after shouldBe RecipeDisplayModel.build(recipe, 2f, emptyMap(), alternatives)
+  }
+})
@@ -0,0 +1,68 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.database.RecipeSearch
+import com.kronos.skilletapp.database.RecipeSearchResult
+import com.kronos.skilletapp.model.RecipeSummary
+import com.kronos.skilletapp.model.RecipeTime
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+class RecipeSearchTests : FunSpec({
+
+  // matchinfo(recipe_fts, 'pcx') for one phrase, hits per column as (in this row, in all rows), starting with recipe_id
+  fun matchInfo(vararg columns: Pair<Int, Int>): ByteArray {
+    val ints = listOf(1, columns.size) + columns.flatMap { (row, all) -> listOf(row, all, if (all > 0) 1 else 0) }
+    return ByteBuffer.allocate(ints.size * 4).order(ByteOrder.nativeOrder()).apply { ints.forEach { putInt(it) } }.array()
+  }
+
+  fun summary(name: String) = RecipeSummary(id = name, name = name, servings = 1, time = RecipeTime())
+
+  context("Query") {
+    test("Matches every word as a prefix") {
+      RecipeSearch.matchQuery("garlic chick") shouldBe "garlic* chick*"
+    }
+
+    test("Drops FTS syntax") {
+      RecipeSearch.matchQuery("\"pasta\" -shells OR (cheese)") shouldBe "pasta* shells* or* cheese*"
+    }
+
+    test("Keeps letters outside ASCII") {
+      RecipeSearch.matchQuery("crème brûlée") shouldBe "crème* brûlée*"
+    }
+
+    test("Nothing to search for") {
+      RecipeSearch.matchQuery("").shouldBeNull()
+      RecipeSearch.matchQuery(" - ").shouldBeNull()
+      RecipeSearch.nameMatchQuery(" - ").shouldBeNull()
+    }
+
+    test("Name query only matches the name column") {
+      RecipeSearch.nameMatchQuery("Garlic chick") shouldBe "name:garlic* name:chick*"
+    }
+  }
+
+  context("Ranking") {
+    test("Ranks a match in the name above one in the instructions") {
+      val inName = RecipeSearchResult(summary("name"), matchInfo(0 to 0, 1 to 10, 0 to 0, 0 to 0, 0 to 0, 0 to 10))
+      val inInstructions = RecipeSearchResult(summary("instructions"), matchInfo(0 to 0, 0 to 10, 0 to 0, 0 to 0, 0 to 0, 1 to 10))
+
+      RecipeSearch.rank(listOf(inInstructions, inName)).map { it.id } shouldBe listOf("name", "instructions")
+    }
+
+    test("Ranks a rare word above a common one") {
+      val rare = RecipeSearchResult(summary("rare"), matchInfo(0 to 0, 0 to 0, 0 to 0, 0 to 0, 1 to 2, 0 to 0))
+      val common = RecipeSearchResult(summary("common"), matchInfo(0 to 0, 0 to 0, 0 to 0, 0 to 0, 1 to 200, 0 to 0))
+
+      RecipeSearch.rank(listOf(common, rare)).map { it.id } shouldBe listOf("rare", "common")
+    }
+
+    test("Keeps only the best matches") {
+      val results = (1..5).map { RecipeSearchResult(summary("$it"), matchInfo(0 to 0, it to 10, 0 to 0, 0 to 0, 0 to 0, 0 to 0)) }
+
+      RecipeSearch.rank(results, limit = 2).map { it.id } shouldBe listOf("5", "4")
+    }
+  }
+})
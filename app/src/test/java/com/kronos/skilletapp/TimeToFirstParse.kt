@@ -0,0 +1,35 @@
+package com.kronos.skilletapp
+
+import com.kronos.skilletapp.parser.IngredientParser
+import com.kronos.skilletapp.parser.ParserWarmup
+import kotlin.time.Duration.Companion.microseconds
+import kotlin.time.measureTime
+
+/**
+ * Times the first paste a user makes in a new process, where class loading and ATN deserialization haven't happened
+ * yet. Run with --warm to prime the grammar first, the way SkilletApp does at startup.
+ */
+object TimeToFirstParse {
+  private val paste = IngredientCorpus.lines(60)
+
+  @JvmStatic
+  fun main(args: Array<String>) {
+    if ("--warm" in args) ParserWarmup.prime()
+
+    val elapsed = measureTime {
+      val parser = IngredientParser()
+      paste.forEach { parser.parseIngredient(it) }
+    }
+    println(elapsed.inWholeMicroseconds)
+  }
+
+  // Runs main in a new JVM on the current classpath
+  fun measure(warm: Boolean) = ProcessBuilder(
+    listOfNotNull(
+      "${System.getProperty("java.home")}/bin/java",
+      "-cp", System.getProperty("java.class.path"),
+      TimeToFirstParse::class.java.name,
+      "--warm".takeIf { warm },
+    )
+  ).redirectErrorStream(true).start().inputStream.bufferedReader().readLines().last().toLong().microseconds
+}